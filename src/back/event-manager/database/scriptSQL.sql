@@ -11,7 +11,9 @@ CREATE TABLE IF NOT EXISTS events (
     capacity INTEGER NOT NULL CHECK(capacity >= 1),
     description TEXT CHECK(length(description) <= 500),
     price REAL CHECK(price > 0),
-    category TEXT CHECK(category IN ('CONFERENCE', 'WORKSHOP', 'SEMINAR', 'MEETUP', 'TRAINING', 'EXHIBITION', 'NETWORKING', 'OTHER'))
+    category TEXT CHECK(category IN ('CONFERENCE', 'WORKSHOP', 'SEMINAR', 'MEETUP', 'TRAINING', 'EXHIBITION', 'NETWORKING', 'OTHER')),
+    latitude REAL CHECK(latitude BETWEEN -90 AND 90),
+    longitude REAL CHECK(longitude BETWEEN -180 AND 180)
 );
 
 -- Inserção de dados de exemplo para testes
@@ -0,0 +1,39 @@
+package com.dtidigital.event_manager.config;
+
+import com.dtidigital.event_manager.filter.CompressedResponseCacheFilter;
+import com.dtidigital.event_manager.service.EventChange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Cache de respostas pré-comprimidas para as listagens "estáveis" de eventos.
+ * As demais respostas são comprimidas pelo próprio Tomcat (server.compression.*).
+ */
+@Configuration
+@ConditionalOnProperty(name = "events.compression.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CompressionConfig {
+
+    private final CompressedResponseCacheFilter filter;
+
+    public CompressionConfig(@Value("${events.compression.cache.min-size:2048}") int minSize,
+                             @Value("${events.compression.cache.max-entries:256}") int maxEntries) {
+        this.filter = new CompressedResponseCacheFilter(minSize, maxEntries);
+    }
+
+    @Bean
+    public FilterRegistrationBean<CompressedResponseCacheFilter> compressedResponseCacheFilter() {
+        FilterRegistrationBean<CompressedResponseCacheFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/events", "/api/events/category/*", "/api/events/date-range",
+                "/api/events/summary", "/api/events/summary/*");
+        return registration;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        filter.invalidate();
+    }
+}
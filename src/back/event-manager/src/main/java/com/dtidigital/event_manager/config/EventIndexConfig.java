@@ -0,0 +1,40 @@
+package com.dtidigital.event_manager.config;
+
+import com.dtidigital.event_manager.model.Event;
+import com.dtidigital.event_manager.service.EventChange;
+import com.dtidigital.event_manager.service.EventIndex;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Base das configurações de índices em memória: carrega o índice na criação do bean e aplica cada
+ * escrita depois do commit.
+ */
+abstract class EventIndexConfig<T, I extends EventIndex<T>> {
+
+    protected I index;
+
+    // Registrado antes da carga, para que as escritas feitas durante ela cheguem ao índice
+    protected I load(I index, Supplier<? extends Collection<T>> loader) {
+        this.index = index;
+        index.rebuild(loader);
+        return index;
+    }
+
+    // Projeção do evento guardada no índice
+    protected abstract T row(Event event);
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        I current = index;
+        if (current == null) {
+            return;
+        }
+        switch (change.type()) {
+            case CREATED, UPDATED -> current.put(row(change.after()));
+            case DELETED, ARCHIVED -> current.remove(change.eventId());
+        }
+    }
+}
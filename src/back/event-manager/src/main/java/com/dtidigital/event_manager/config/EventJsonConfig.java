@@ -0,0 +1,36 @@
+package com.dtidigital.event_manager.config;
+
+import com.dtidigital.event_manager.model.Event;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Serialização de {@link Event} sem reflexão nem formatação de datas via {@code DateTimeFormatter},
+ * o grosso do custo de CPU e de lixo das listagens. O módulo vale para JSON, CBOR e Smile (o Spring
+ * Boot registra os beans de {@link Module} em todos os ObjectMappers) e produz os mesmos bytes.
+ */
+@Configuration
+@ConditionalOnProperty(name = "events.json.fast-serializer.enabled", havingValue = "true", matchIfMissing = true)
+public class EventJsonConfig {
+
+    @Bean
+    public Module eventJsonModule() {
+        SimpleModule module = new SimpleModule("EventJsonModule");
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                return beanDesc.getBeanClass() == Event.class
+                        ? EventJsonSerializer.wrap(config, beanDesc, serializer) : serializer;
+            }
+        });
+        return module;
+    }
+}
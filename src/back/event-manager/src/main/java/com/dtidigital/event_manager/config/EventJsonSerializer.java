@@ -0,0 +1,252 @@
+package com.dtidigital.event_manager.config;
+
+import com.dtidigital.event_manager.enums.EventCategory;
+import com.dtidigital.event_manager.model.Event;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Serializador de {@link Event} escrito à mão: lê os campos pelos getters (sem reflexão) e escreve
+ * data e horários dígito a dígito num buffer da thread, direto no buffer do gerador, sem o
+ * {@code DateTimeFormatter} nem Strings intermediárias.
+ * <p>
+ * A saída é idêntica à do {@code BeanSerializer} do Jackson: a ordem e os nomes das propriedades vêm
+ * dele, e ele continua responsável pelos casos que este serializador não cobre (anos fora de
+ * 0001-9999, tipagem polimórfica, unwrapping).
+ */
+final class EventJsonSerializer extends StdSerializer<Event> implements ResolvableSerializer {
+
+    private static final String DATE_PATTERN = "yyyy-MM-dd";
+    private static final String TIME_PATTERN = "HH:mm";
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[DATE_PATTERN.length()]);
+
+    private enum Field {
+        ID, NAME, EVENT_DATE, START_TIME, END_TIME, LOCATION, ORGANIZER, CAPACITY, DESCRIPTION, PRICE,
+        CATEGORY, LATITUDE, LONGITUDE, VALID_TIME_RANGE, VALID_COORDINATES
+    }
+
+    private final JsonSerializer<Object> defaultSerializer;
+    private final Field[] fields;
+    private final SerializableString[] names;
+    private JsonSerializer<Object> categorySerializer;
+
+    private EventJsonSerializer(JsonSerializer<Object> defaultSerializer, Field[] fields, SerializableString[] names) {
+        super(Event.class);
+        this.defaultSerializer = defaultSerializer;
+        this.fields = fields;
+        this.names = names;
+    }
+
+    /**
+     * Substitui o serializador padrão de {@link Event}, ou o devolve como está se alguma propriedade
+     * ou configuração (inclusão, views, filtros, formato) mudaria a saída.
+     */
+    @SuppressWarnings("unchecked")
+    static JsonSerializer<?> wrap(SerializationConfig config, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+        if (!(serializer instanceof BeanSerializerBase bean) || bean.usesObjectId()
+                || beanDesc.findAnyGetter() != null
+                || config.getAnnotationIntrospector().findFilterId(beanDesc.getClassInfo()) != null) {
+            return serializer;
+        }
+        List<Field> fields = new ArrayList<>();
+        List<SerializableString> names = new ArrayList<>();
+        for (Iterator<PropertyWriter> it = bean.properties(); it.hasNext(); ) {
+            PropertyWriter property = it.next();
+            Field field = field(property.getName());
+            if (field == null || !(property instanceof BeanPropertyWriter writer) || !supported(config, writer, field)) {
+                return serializer;
+            }
+            fields.add(field);
+            names.add(writer.getSerializedName());
+        }
+        return new EventJsonSerializer((JsonSerializer<Object>) serializer, fields.toArray(new Field[0]),
+                names.toArray(new SerializableString[0]));
+    }
+
+    private static Field field(String name) {
+        return switch (name) {
+            case "id" -> Field.ID;
+            case "name" -> Field.NAME;
+            case "eventDate" -> Field.EVENT_DATE;
+            case "startTime" -> Field.START_TIME;
+            case "endTime" -> Field.END_TIME;
+            case "location" -> Field.LOCATION;
+            case "organizer" -> Field.ORGANIZER;
+            case "capacity" -> Field.CAPACITY;
+            case "description" -> Field.DESCRIPTION;
+            case "price" -> Field.PRICE;
+            case "category" -> Field.CATEGORY;
+            case "latitude" -> Field.LATITUDE;
+            case "longitude" -> Field.LONGITUDE;
+            case "validTimeRange" -> Field.VALID_TIME_RANGE;
+            case "validCoordinates" -> Field.VALID_COORDINATES;
+            default -> null;
+        };
+    }
+
+    // Nulos escritos como null, sem serializador próprio e, para data e horários, o mesmo padrão de hoje
+    private static boolean supported(SerializationConfig config, BeanPropertyWriter writer, Field field) {
+        // O builder do Spring desliga DEFAULT_VIEW_INCLUSION: sem @JsonView, getViews() é um array vazio
+        Class<?>[] views = writer.getViews();
+        if (writer.willSuppressNulls() || writer.hasNullSerializer() || writer.hasSerializer()
+                || writer.getTypeSerializer() != null || (views != null && views.length > 0)) {
+            return false;
+        }
+        JsonInclude.Include inclusion = config.getDefaultInclusion(Event.class, writer.getType().getRawClass())
+                .getValueInclusion();
+        if (inclusion != JsonInclude.Include.ALWAYS && inclusion != JsonInclude.Include.USE_DEFAULTS) {
+            return false;
+        }
+        JsonFormat.Value format = writer.findPropertyFormat(config, Event.class);
+        return switch (field) {
+            case EVENT_DATE -> DATE_PATTERN.equals(format.getPattern()) && !format.hasShape();
+            case START_TIME, END_TIME -> TIME_PATTERN.equals(format.getPattern()) && !format.hasShape();
+            default -> !format.hasShape() && !format.hasPattern();
+        };
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (defaultSerializer instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+        categorySerializer = provider.findValueSerializer(EventCategory.class);
+    }
+
+    @Override
+    public void serialize(Event event, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (!formattable(event.getEventDate())) {
+            defaultSerializer.serialize(event, gen, provider);
+            return;
+        }
+        gen.writeStartObject(event);
+        char[] scratch = SCRATCH.get();
+        for (int i = 0; i < fields.length; i++) {
+            gen.writeFieldName(names[i]);
+            switch (fields[i]) {
+                case ID -> writeNumber(gen, event.getId());
+                case NAME -> gen.writeString(event.getName());
+                case EVENT_DATE -> writeDate(gen, event.getEventDate(), scratch);
+                case START_TIME -> writeTime(gen, event.getStartTime(), scratch);
+                case END_TIME -> writeTime(gen, event.getEndTime(), scratch);
+                case LOCATION -> gen.writeString(event.getLocation());
+                case ORGANIZER -> gen.writeString(event.getOrganizer());
+                case CAPACITY -> writeNumber(gen, event.getCapacity());
+                case DESCRIPTION -> gen.writeString(event.getDescription());
+                case PRICE -> gen.writeNumber(event.getPrice());
+                case CATEGORY -> writeCategory(gen, event.getCategory(), provider);
+                case LATITUDE -> writeNumber(gen, event.getLatitude());
+                case LONGITUDE -> writeNumber(gen, event.getLongitude());
+                case VALID_TIME_RANGE -> gen.writeBoolean(event.isValidTimeRange());
+                case VALID_COORDINATES -> gen.writeBoolean(event.isValidCoordinates());
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(Event event, JsonGenerator gen, SerializerProvider provider,
+                                  TypeSerializer typeSer) throws IOException {
+        defaultSerializer.serializeWithType(event, gen, provider, typeSer);
+    }
+
+    @Override
+    public JsonSerializer<Event> unwrappingSerializer(NameTransformer unwrapper) {
+        @SuppressWarnings("unchecked")
+        JsonSerializer<Event> unwrapping = (JsonSerializer<Event>) (JsonSerializer<?>) defaultSerializer
+                .unwrappingSerializer(unwrapper);
+        return unwrapping;
+    }
+
+    // "yyyy" só tem 4 dígitos (sem sinal) de 0001 a 9999
+    private static boolean formattable(LocalDate date) {
+        return date == null || (date.getYear() >= 1 && date.getYear() <= 9999);
+    }
+
+    private static void writeDate(JsonGenerator gen, LocalDate date, char[] scratch) throws IOException {
+        if (date == null) {
+            gen.writeNull();
+            return;
+        }
+        int year = date.getYear();
+        scratch[0] = (char) ('0' + year / 1000);
+        scratch[1] = (char) ('0' + year / 100 % 10);
+        scratch[2] = (char) ('0' + year / 10 % 10);
+        scratch[3] = (char) ('0' + year % 10);
+        scratch[4] = '-';
+        digits(scratch, 5, date.getMonthValue());
+        scratch[7] = '-';
+        digits(scratch, 8, date.getDayOfMonth());
+        gen.writeString(scratch, 0, 10);
+    }
+
+    private static void writeTime(JsonGenerator gen, LocalTime time, char[] scratch) throws IOException {
+        if (time == null) {
+            gen.writeNull();
+            return;
+        }
+        digits(scratch, 0, time.getHour());
+        scratch[2] = ':';
+        digits(scratch, 3, time.getMinute());
+        gen.writeString(scratch, 0, 5);
+    }
+
+    private static void digits(char[] scratch, int offset, int value) {
+        scratch[offset] = (char) ('0' + value / 10);
+        scratch[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    private void writeCategory(JsonGenerator gen, EventCategory category, SerializerProvider provider)
+            throws IOException {
+        if (category == null) {
+            gen.writeNull();
+        } else {
+            categorySerializer.serialize(category, gen, provider);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, Integer value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.intValue());
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, Double value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.doubleValue());
+        }
+    }
+}
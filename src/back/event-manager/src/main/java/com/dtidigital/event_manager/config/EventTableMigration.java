@@ -0,0 +1,137 @@
+package com.dtidigital.event_manager.config;
+
+import com.dtidigital.event_manager.repository.IEventOutboxRepository;
+import com.dtidigital.event_manager.repository.IEventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Recria as tabelas {@code events} e {@code event_outbox} com {@code AUTOINCREMENT}. O Hibernate cria
+ * a coluna IDENTITY como um {@code integer} com {@code primary key (id)}, e nela o SQLite reaproveita o
+ * maior ID depois que a última linha é apagada. Em {@code events}, o evento novo herdaria o ID de um
+ * evento arquivado (conflito em {@code events_archive}, IDs repetidos com {@code includeArchived}) e o
+ * histórico e os webhooks dele. No outbox, que a limpeza esvazia, a mensagem nova receberia um ID que
+ * o cursor das inscrições já passou e nunca seria entregue.
+ * <p>
+ * A troca é feita uma vez, na inicialização e depois do {@code ddl-auto}, copiando as linhas e os
+ * índices; a sequência começa acima de todos os IDs já usados.
+ */
+@Component
+public class EventTableMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(EventTableMigration.class);
+
+    // Restrição de chave primária à parte
+    private static final Pattern PRIMARY_KEY = Pattern.compile(",\\s*primary key\\s*\\(\\s*\"?id\"?\\s*\\)",
+            Pattern.CASE_INSENSITIVE);
+
+    // Só para rodar depois de o Hibernate criar ou atualizar o schema
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private IEventRepository eventRepository;
+
+    @Autowired
+    private IEventOutboxRepository outboxRepository;
+
+    @PostConstruct
+    void migrate() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            rebuild(connection, "events", eventRepository::findMaxUsedId);
+            // Inclui os cursores das inscrições: o outbox pode já ter sido esvaziado pela limpeza
+            rebuild(connection, "event_outbox", outboxRepository::findMaxUsedId);
+        }
+    }
+
+    private void rebuild(Connection connection, String name, Supplier<Long> maxUsedId) throws SQLException {
+        String table = sql(connection, "SELECT sql FROM sqlite_master WHERE type = 'table' AND name = '" + name + "'");
+        if (table == null || table.toLowerCase(Locale.ROOT).contains("autoincrement")) {
+            return;
+        }
+        String rebuilt = withAutoincrement(name, table);
+        if (rebuilt == null) {
+            log.warn("Tabela {} com formato inesperado, mantida sem AUTOINCREMENT: {}", name, table);
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            List<String> indexes = new ArrayList<>();
+            try (ResultSet result = statement.executeQuery("SELECT sql FROM sqlite_master WHERE type = 'index' "
+                    + "AND tbl_name = '" + name + "' AND sql IS NOT NULL")) {
+                while (result.next()) {
+                    indexes.add(result.getString(1));
+                }
+            }
+            Long maxUsed = maxUsedId.get();
+
+            connection.setAutoCommit(false);
+            try {
+                statement.execute(rebuilt.replaceFirst("(?i)^CREATE TABLE\\s+\"?" + name + "\"?",
+                        "CREATE TABLE " + name + "_autoincrement"));
+                statement.execute("INSERT INTO " + name + "_autoincrement SELECT * FROM " + name);
+                statement.execute("DROP TABLE " + name);
+                statement.execute("ALTER TABLE " + name + "_autoincrement RENAME TO " + name);
+                for (String index : indexes) {
+                    statement.execute(index);
+                }
+                statement.execute("DELETE FROM sqlite_sequence WHERE name = '" + name + "'");
+                try (PreparedStatement sequence = connection.prepareStatement(
+                        "INSERT INTO sqlite_sequence (name, seq) VALUES (?, ?)")) {
+                    sequence.setString(1, name);
+                    sequence.setLong(2, maxUsed == null ? 0 : maxUsed);
+                    sequence.executeUpdate();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+            log.info("Tabela {} recriada com AUTOINCREMENT; próximos IDs acima de {}", name, maxUsed == null ? 0 : maxUsed);
+        }
+    }
+
+    /**
+     * O mesmo CREATE TABLE com o ID como {@code integer primary key autoincrement}, ou {@code null}
+     * se a definição não tiver o formato gerado pelo Hibernate.
+     */
+    static String withAutoincrement(String name, String table) {
+        // Coluna do ID em qualquer posição: o Hibernate 6 ordena as colunas pelo tipo
+        Matcher column = Pattern.compile("^(CREATE TABLE\\s+\"?" + Pattern.quote(name) + "\"?\\s*\\((?:.*?,)?\\s*)\"?id\"?\\s+\\w+",
+                Pattern.CASE_INSENSITIVE | Pattern.DOTALL).matcher(table);
+        if (!column.find()) {
+            return null;
+        }
+        String rebuilt = column.replaceFirst("$1id integer primary key autoincrement");
+        Matcher primaryKey = PRIMARY_KEY.matcher(rebuilt);
+        return primaryKey.find() ? primaryKey.replaceFirst("") : null;
+    }
+
+    private static String sql(Connection connection, String query) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(query)) {
+            return result.next() ? result.getString(1) : null;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.dtidigital.event_manager.config;
+
+import com.dtidigital.event_manager.dto.EventLocation;
+import com.dtidigital.event_manager.model.Event;
+import com.dtidigital.event_manager.repository.IEventRepository;
+import com.dtidigital.event_manager.repository.ShardedEventRepository;
+import com.dtidigital.event_manager.service.EventSpatialIndex;
+import com.dtidigital.event_manager.service.Geocoder;
+import com.dtidigital.event_manager.service.LocalGeocoder;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Busca geográfica: geocoder usado na escrita e índice espacial em memória.
+ * O índice é carregado do banco na criação do bean, antes de o servidor aceitar requisições.
+ */
+@Configuration
+@ConditionalOnProperty(name = "events.geo.enabled", havingValue = "true", matchIfMissing = true)
+@ImportRuntimeHints(GeoConfig.GazetteerHints.class)
+public class GeoConfig extends EventIndexConfig<EventLocation, EventSpatialIndex> {
+
+    @Bean
+    @ConditionalOnMissingBean(Geocoder.class)
+    public Geocoder geocoder(@Value("${events.geo.gazetteer:classpath:geo/places.csv}") Resource gazetteer)
+            throws IOException {
+        return LocalGeocoder.load(gazetteer);
+    }
+
+    @Bean
+    public EventSpatialIndex eventSpatialIndex(IEventRepository eventRepository,
+                                               Optional<ShardedEventRepository> shardedRepository,
+                                               @Value("${events.geo.index.cell-degrees:0.05}") double cellDegrees) {
+        return load(new EventSpatialIndex(cellDegrees), () -> shardedRepository
+                .map(ShardedEventRepository::findAllLocations)
+                .orElseGet(eventRepository::findAllLocations));
+    }
+
+    @Override
+    protected EventLocation row(Event event) {
+        return new EventLocation(event.getId(), event.getLatitude(), event.getLongitude(),
+                event.getEventDate(), event.getCategory());
+    }
+
+    static class GazetteerHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.resources().registerPattern("geo/places.csv");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.dtidigital.event_manager.config;
+
+import com.dtidigital.event_manager.enums.EndpointClass;
+import com.dtidigital.event_manager.filter.RateLimitFilter;
+import com.dtidigital.event_manager.filter.TokenBucketRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Registra o {@link RateLimitFilter}. Os limites de cada classe vêm de
+ * {@code events.rate-limit.<read|search|write>.*}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "events.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(Environment env, ObjectMapper objectMapper,
+                                                                   MeterRegistry meterRegistry) {
+        int maxClients = env.getProperty("events.rate-limit.max-clients", Integer.class, 10_000);
+
+        Map<EndpointClass, RateLimitFilter.Limits> limits = new EnumMap<>(EndpointClass.class);
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String prefix = "events.rate-limit." + endpointClass.name().toLowerCase() + ".";
+            double perSecond = env.getRequiredProperty(prefix + "per-second", Double.class);
+            int burst = env.getRequiredProperty(prefix + "burst", Integer.class);
+            int maxConcurrent = env.getRequiredProperty(prefix + "max-concurrent", Integer.class);
+            limits.put(endpointClass, new RateLimitFilter.Limits(
+                    new TokenBucketRateLimiter(perSecond, burst, maxClients), maxConcurrent));
+        }
+
+        FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(new RateLimitFilter(limits, objectMapper, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,84 @@
+package com.dtidigital.event_manager.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Validação leve do schema, usada no lugar de {@code ddl-auto=update} no perfil "validate".
+ * Confere apenas se as tabelas e colunas mapeadas existem: o {@code ddl-auto=validate} do
+ * Hibernate não serve para SQLite, que reporta os tipos declarados (ex.: INTEGER x BIGINT).
+ * Ligada pela propriedade em tempo de execução (e não por condição do bean) para continuar
+ * valendo com o contexto pré-processado pelo Spring AOT.
+ */
+@Component
+public class SchemaValidator {
+
+    @Value("${events.schema.validate:false}")
+    private boolean enabled;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @PostConstruct
+    void validate() throws SQLException {
+        if (!enabled) {
+            return;
+        }
+        Map<String, Set<String>> expected = new TreeMap<>();
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel()
+                .forEachEntityDescriptor(descriptor -> descriptor.forEachSelectable((index, selectable) ->
+                        expected.computeIfAbsent(selectable.getContainingTableExpression().toLowerCase(Locale.ROOT),
+                                        table -> new HashSet<>())
+                                .add(selectable.getSelectionExpression().toLowerCase(Locale.ROOT))));
+
+        List<String> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (Map.Entry<String, Set<String>> table : expected.entrySet()) {
+                Set<String> actual = columns(metaData, table.getKey());
+                if (actual.isEmpty()) {
+                    missing.add(table.getKey());
+                    continue;
+                }
+                table.getValue().stream()
+                        .filter(column -> !actual.contains(column))
+                        .forEach(column -> missing.add(table.getKey() + "." + column));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Schema desatualizado, faltando: " + missing
+                    + ". Suba uma vez com spring.jpa.hibernate.ddl-auto=update.");
+        }
+    }
+
+    private static Set<String> columns(DatabaseMetaData metaData, String table) throws SQLException {
+        Set<String> columns = new HashSet<>();
+        try (ResultSet rs = metaData.getColumns(null, null, table, null)) {
+            while (rs.next()) {
+                columns.add(rs.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+            }
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,120 @@
+package com.dtidigital.event_manager.config;
+
+import com.dtidigital.event_manager.dto.EventText;
+import com.dtidigital.event_manager.model.Event;
+import com.dtidigital.event_manager.repository.IEventRepository;
+import com.dtidigital.event_manager.repository.ShardedEventRepository;
+import com.dtidigital.event_manager.service.EventSimilarityIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Eventos semelhantes: vizinhos calculados para todos os eventos depois que a aplicação sobe,
+ * numa thread própria, e recalculados por completo periodicamente, para atualizar os pesos IDF.
+ * Até a primeira carga terminar, a consulta de semelhantes responde 503.
+ */
+@Configuration
+@ConditionalOnProperty(name = "events.similar.enabled", havingValue = "true", matchIfMissing = true)
+public class SimilarityConfig extends EventIndexConfig<EventText, EventSimilarityIndex> {
+
+    private static final Logger log = LoggerFactory.getLogger(SimilarityConfig.class);
+
+    private static final int FALLBACK_BATCH = 500;
+    private static final int MAX_LOGGED_IDS = 20;
+
+    @Autowired
+    private IEventRepository eventRepository;
+
+    @Autowired(required = false)
+    private ShardedEventRepository shardedRepository;
+
+    // Registrado vazio: as escritas feitas antes e durante a carga chegam ao índice
+    @Bean
+    public EventSimilarityIndex eventSimilarityIndex(@Value("${events.similar.neighbors:10}") int neighbors,
+                                                     @Value("${events.similar.max-term-ratio:0.1}") double maxTermRatio,
+                                                     @Value("${events.similar.max-postings:200}") int maxPostings) {
+        index = new EventSimilarityIndex(neighbors, maxTermRatio, maxPostings);
+        return index;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInBackground() {
+        Thread.ofPlatform().name("similarity-index").daemon().start(this::rebuild);
+    }
+
+    @Scheduled(cron = "${events.similar.rebuild-cron:0 15 4 * * *}")
+    public void rebuild() {
+        long start = System.nanoTime();
+        try {
+            index.rebuild(this::findAllTexts);
+        } catch (RuntimeException e) {
+            // O índice anterior continua valendo; sem nenhuma carga concluída, a consulta segue em 503
+            log.error("Falha ao reconstruir o índice de eventos semelhantes", e);
+            return;
+        }
+        logRebuild(start);
+    }
+
+    @Override
+    protected EventText row(Event event) {
+        return new EventText(event.getId(), event.getName(), event.getDescription(), event.getOrganizer(),
+                event.getCategory(), event.getEventDate());
+    }
+
+    private List<EventText> findAllTexts() {
+        if (shardedRepository != null) {
+            return shardedRepository.findAllTexts();
+        }
+        try {
+            return eventRepository.findAllTexts();
+        } catch (DataAccessException e) {
+            log.warn("Falha ao ler os eventos do índice de semelhantes ({}); lendo em lotes, sem as linhas ilegíveis",
+                    e.getMessage());
+            return findReadableTexts();
+        }
+    }
+
+    // Um lote que falha é relido evento a evento; os que ainda falham ficam fora do índice
+    private List<EventText> findReadableTexts() {
+        List<Long> ids = eventRepository.findAllIds();
+        List<EventText> texts = new ArrayList<>(ids.size());
+        List<Long> skipped = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += FALLBACK_BATCH) {
+            List<Long> batch = ids.subList(from, Math.min(ids.size(), from + FALLBACK_BATCH));
+            try {
+                texts.addAll(eventRepository.findTextsByIdIn(batch));
+            } catch (DataAccessException e) {
+                for (Long id : batch) {
+                    try {
+                        texts.addAll(eventRepository.findTextsByIdIn(List.of(id)));
+                    } catch (DataAccessException rowError) {
+                        skipped.add(id);
+                    }
+                }
+            }
+        }
+        if (!skipped.isEmpty()) {
+            log.warn("{} eventos ignorados pelo índice de semelhantes por não poderem ser lidos: {}{}", skipped.size(),
+                    skipped.subList(0, Math.min(MAX_LOGGED_IDS, skipped.size())),
+                    skipped.size() > MAX_LOGGED_IDS ? "..." : "");
+        }
+        return texts;
+    }
+
+    private void logRebuild(long start) {
+        log.info("Índice de eventos semelhantes reconstruído: {} eventos em {} ms", index.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
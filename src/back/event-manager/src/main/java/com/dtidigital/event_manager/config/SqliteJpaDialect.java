@@ -0,0 +1,47 @@
+package com.dtidigital.event_manager.config;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.sqlite.SQLiteConfig.TransactionMode;
+import org.sqlite.SQLiteConnection;
+import org.sqlite.SQLiteConnectionConfig;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Abre as transações de escrita com {@code BEGIN IMMEDIATE}. Com o {@code BEGIN} padrão (DEFERRED) o
+ * lock de escrita só é pedido no primeiro INSERT, UPDATE ou DELETE; num ler-e-escrever (update e
+ * delete de eventos), se outra conexão confirmou algo depois da leitura, o SQLite em WAL recusa na
+ * hora com SQLITE_BUSY_SNAPSHOT, sem esperar o busy_timeout. Com IMMEDIATE o lock vem antes da
+ * leitura e a transação espera a vez.
+ * <p>
+ * As transações somente leitura (as dos repositórios) continuam DEFERRED, para não disputarem o
+ * lock de escrita; por isso não basta {@code transaction_mode=IMMEDIATE} na URL do datasource.
+ */
+public class SqliteJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition) throws SQLException {
+        if (definition.isReadOnly()) {
+            return super.beginTransaction(entityManager, definition);
+        }
+        Connection connection = entityManager.unwrap(SessionImplementor.class)
+                .getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+        if (!connection.isWrapperFor(SQLiteConnection.class)) {
+            return super.beginTransaction(entityManager, definition);
+        }
+        // O driver executa o BEGIN ao desligar o auto-commit; depois volta ao modo configurado, usado
+        // no BEGIN que ele reabre a cada commit enquanto o auto-commit está desligado
+        SQLiteConnectionConfig config = connection.unwrap(SQLiteConnection.class).getConnectionConfig();
+        TransactionMode previous = config.getTransactionMode();
+        config.setTransactionMode(TransactionMode.IMMEDIATE);
+        try {
+            return super.beginTransaction(entityManager, definition);
+        } finally {
+            config.setTransactionMode(previous);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.dtidigital.event_manager.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+/**
+ * Troca o dialeto JPA do EntityManagerFactory criado pelo Spring Boot pelo {@link SqliteJpaDialect}.
+ * O JpaTransactionManager usa o dialeto do EntityManagerFactory, então é nele que a troca é feita.
+ */
+@Configuration
+public class SqliteTransactionConfig {
+
+    @Bean
+    public static BeanPostProcessor sqliteJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof LocalContainerEntityManagerFactoryBean factory) {
+                    factory.setJpaDialect(new SqliteJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+}
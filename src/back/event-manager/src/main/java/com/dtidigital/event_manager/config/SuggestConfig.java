@@ -0,0 +1,32 @@
+package com.dtidigital.event_manager.config;
+
+import com.dtidigital.event_manager.dto.EventTerms;
+import com.dtidigital.event_manager.model.Event;
+import com.dtidigital.event_manager.repository.IEventRepository;
+import com.dtidigital.event_manager.repository.ShardedEventRepository;
+import com.dtidigital.event_manager.service.EventSuggester;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Optional;
+
+/**
+ * Autocomplete de nome, organizador e local, carregado do banco na criação do bean.
+ */
+@Configuration
+@ConditionalOnProperty(name = "events.suggest.enabled", havingValue = "true", matchIfMissing = true)
+public class SuggestConfig extends EventIndexConfig<EventTerms, EventSuggester> {
+
+    @Bean
+    public EventSuggester eventSuggester(IEventRepository eventRepository,
+                                         Optional<ShardedEventRepository> shardedRepository) {
+        return load(new EventSuggester(), () -> shardedRepository.map(ShardedEventRepository::findAllTerms)
+                .orElseGet(eventRepository::findAllTerms));
+    }
+
+    @Override
+    protected EventTerms row(Event event) {
+        return new EventTerms(event.getId(), event.getName(), event.getOrganizer(), event.getLocation());
+    }
+}
@@ -0,0 +1,46 @@
+package com.dtidigital.event_manager.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Formatos binários (CBOR e Smile) para consumidores serviço-a-serviço.
+ * Selecionados pelo header Accept ({@code application/cbor} ou {@code application/x-jackson-smile});
+ * JSON continua sendo o padrão.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    // Builder do Spring Boot, já com as propriedades spring.jackson.* aplicadas
+    @Autowired
+    private ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    // O Spring MVC já registra conversores CBOR e Smile com um ObjectMapper sem as propriedades
+    // spring.jackson.*, na frente de qualquer um adicionado aqui: eles são trocados no mesmo lugar
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        int index = converters.size();
+        for (int i = converters.size() - 1; i >= 0; i--) {
+            if (converters.get(i) instanceof MappingJackson2CborHttpMessageConverter
+                    || converters.get(i) instanceof MappingJackson2SmileHttpMessageConverter) {
+                converters.remove(i);
+                index = i;
+            }
+        }
+        converters.addAll(index, List.of(
+                new MappingJackson2SmileHttpMessageConverter(
+                        objectMapperBuilder.getObject().factory(new SmileFactory()).build()),
+                new MappingJackson2CborHttpMessageConverter(
+                        objectMapperBuilder.getObject().factory(new CBORFactory()).build())));
+    }
+}
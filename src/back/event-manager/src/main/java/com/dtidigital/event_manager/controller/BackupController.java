@@ -0,0 +1,50 @@
+package com.dtidigital.event_manager.controller;
+
+import com.dtidigital.event_manager.dto.BackupStatus;
+import com.dtidigital.event_manager.service.DatabaseBackupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/backups")
+@CrossOrigin(origins = "*")
+public class BackupController {
+
+    @Autowired
+    private DatabaseBackupService backupService;
+
+    // Listar backups concluídos
+    @GetMapping
+    public ResponseEntity<List<String>> getAllBackups() {
+        return ResponseEntity.ok(backupService.listBackups());
+    }
+
+    // Iniciar backup online (roda em segundo plano)
+    @PostMapping
+    public ResponseEntity<BackupStatus> startBackup() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(backupService.startBackup());
+    }
+
+    // Progresso do backup em andamento ou resultado do último
+    @GetMapping("/status")
+    public ResponseEntity<BackupStatus> getStatus() {
+        BackupStatus status = backupService.getStatus();
+        if (status == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(status);
+    }
+
+    // Restaurar backup num arquivo novo, na pasta de backups; só o nome volta na resposta
+    @PostMapping("/{name}/restore")
+    public ResponseEntity<Map<String, String>> restoreBackup(@PathVariable String name, @RequestParam String target) {
+        Path restored = backupService.restore(name, target);
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("file", restored.getFileName().toString()));
+    }
+}
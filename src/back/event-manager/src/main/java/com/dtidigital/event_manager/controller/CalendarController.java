@@ -0,0 +1,65 @@
+package com.dtidigital.event_manager.controller;
+
+import com.dtidigital.event_manager.enums.EventCategory;
+import com.dtidigital.event_manager.service.CalendarFeedService;
+import com.dtidigital.event_manager.service.CalendarFeedService.FeedKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/calendar")
+@CrossOrigin(origins = "*")
+public class CalendarController {
+
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+    @Autowired
+    private CalendarFeedService calendarFeedService;
+
+    // Feed ICS dos eventos de uma categoria
+    @GetMapping("/category/{category}")
+    public ResponseEntity<StreamingResponseBody> getCategoryFeed(@PathVariable EventCategory category,
+                                                                 WebRequest request) {
+        return feed(FeedKey.category(category), request);
+    }
+
+    // Feed ICS dos eventos de um organizador (nome exato, sem diferenciar maiúsculas)
+    @GetMapping("/organizer")
+    public ResponseEntity<StreamingResponseBody> getOrganizerFeed(@RequestParam String organizer,
+                                                                  WebRequest request) {
+        return feed(FeedKey.organizer(organizer), request);
+    }
+
+    // Feed ICS dos eventos de um período
+    @GetMapping("/date-range")
+    public ResponseEntity<StreamingResponseBody> getDateRangeFeed(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            WebRequest request) {
+        return feed(FeedKey.dateRange(startDate, endDate), request);
+    }
+
+    // Sem mudança desde a última consulta do cliente (If-None-Match / If-Modified-Since): 304 sem corpo
+    private ResponseEntity<StreamingResponseBody> feed(FeedKey key, WebRequest request) {
+        CalendarFeedService.Feed feed = calendarFeedService.getFeed(key);
+        if (request.checkNotModified(feed.etag(), feed.lastModified().toEpochMilli())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .contentLength(feed.contentLength())
+                .eTag(feed.etag())
+                .lastModified(feed.lastModified())
+                .cacheControl(CacheControl.noCache())
+                .body(feed::writeTo);
+    }
+}
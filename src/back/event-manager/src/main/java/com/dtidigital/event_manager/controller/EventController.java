@@ -1,7 +1,10 @@
 package com.dtidigital.event_manager.controller;
 
+import com.dtidigital.event_manager.dto.EventSummary;
+import com.dtidigital.event_manager.dto.Suggestion;
 import com.dtidigital.event_manager.model.Event;
 import com.dtidigital.event_manager.enums.EventCategory;
+import com.dtidigital.event_manager.enums.SuggestField;
 import com.dtidigital.event_manager.service.EventService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,8 +26,9 @@ public class EventController {
     
     // Listar todos os eventos
     @GetMapping
-    public ResponseEntity<List<Event>> getAllEvents() {
-        List<Event> events = eventService.getAllEvents();
+    public ResponseEntity<List<Event>> getAllEvents(
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        List<Event> events = eventService.getAllEvents(includeArchived);
         return ResponseEntity.ok(events);
     }
     
@@ -67,8 +71,10 @@ public class EventController {
     
     // Buscar eventos por categoria
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<Event>> getEventsByCategory(@PathVariable EventCategory category) {
-        List<Event> events = eventService.getEventsByCategory(category);
+    public ResponseEntity<List<Event>> getEventsByCategory(
+            @PathVariable EventCategory category,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        List<Event> events = eventService.getEventsByCategory(category, includeArchived);
         return ResponseEntity.ok(events);
     }
     
@@ -76,29 +82,36 @@ public class EventController {
     @GetMapping("/date-range")
     public ResponseEntity<List<Event>> getEventsByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        List<Event> events = eventService.getEventsByDateRange(startDate, endDate);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        List<Event> events = eventService.getEventsByDateRange(startDate, endDate, includeArchived);
         return ResponseEntity.ok(events);
     }
     
     // Buscar eventos por organizador
     @GetMapping("/organizer")
-    public ResponseEntity<List<Event>> getEventsByOrganizer(@RequestParam String organizer) {
-        List<Event> events = eventService.getEventsByOrganizer(organizer);
+    public ResponseEntity<List<Event>> getEventsByOrganizer(
+            @RequestParam String organizer,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        List<Event> events = eventService.getEventsByOrganizer(organizer, includeArchived);
         return ResponseEntity.ok(events);
     }
     
     // Buscar eventos por nome
     @GetMapping("/search")
-    public ResponseEntity<List<Event>> searchEventsByName(@RequestParam String name) {
-        List<Event> events = eventService.searchEventsByName(name);
+    public ResponseEntity<List<Event>> searchEventsByName(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        List<Event> events = eventService.searchEventsByName(name, includeArchived);
         return ResponseEntity.ok(events);
     }
     
     // Buscar eventos por nome ou ID
     @GetMapping("/search/global")
-    public ResponseEntity<List<Event>> searchEventsByNameOrId(@RequestParam String query) {
-        List<Event> events = eventService.searchEventsByNameOrId(query);
+    public ResponseEntity<List<Event>> searchEventsByNameOrId(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        List<Event> events = eventService.searchEventsByNameOrId(query, includeArchived);
         return ResponseEntity.ok(events);
     }
     
@@ -108,4 +121,76 @@ public class EventController {
         List<Event> events = eventService.getUpcomingEventsByCategory(category);
         return ResponseEntity.ok(events);
     }
-}
+    
+    // Buscar eventos num raio (km) a partir de um ponto, do mais próximo ao mais distante
+    @GetMapping("/search/near")
+    public ResponseEntity<List<Event>> searchEventsNear(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) EventCategory category,
+            @RequestParam(defaultValue = "100") int limit) {
+        List<Event> events = eventService.searchEventsNear(lat, lon, radiusKm, startDate, endDate, category, limit);
+        return ResponseEntity.ok(events);
+    }
+    
+    // Buscar eventos dentro de um retângulo (minLon > maxLon atravessa o antimeridiano)
+    @GetMapping("/search/area")
+    public ResponseEntity<List<Event>> searchEventsInArea(
+            @RequestParam double minLat,
+            @RequestParam double minLon,
+            @RequestParam double maxLat,
+            @RequestParam double maxLon,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) EventCategory category,
+            @RequestParam(defaultValue = "100") int limit) {
+        List<Event> events = eventService.searchEventsInArea(minLat, minLon, maxLat, maxLon,
+                startDate, endDate, category, limit);
+        return ResponseEntity.ok(events);
+    }
+    
+    // Autocomplete de nome, organizador ou local pelo prefixo digitado
+    @GetMapping("/suggest/{field}")
+    public ResponseEntity<List<Suggestion>> suggest(
+            @PathVariable SuggestField field,
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<Suggestion> suggestions = eventService.suggest(field, prefix, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+    
+    // Eventos semelhantes (texto, categoria, organizador e data), do mais ao menos parecido
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<Event>> getSimilarEvents(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "5") int limit) {
+        List<Event> events = eventService.getSimilarEvents(id, limit);
+        return ResponseEntity.ok(events);
+    }
+    
+    // Listagem resumida de todos os eventos
+    @GetMapping("/summary")
+    public ResponseEntity<List<EventSummary>> getEventSummaries() {
+        List<EventSummary> events = eventService.getEventSummaries();
+        return ResponseEntity.ok(events);
+    }
+    
+    // Listagem resumida por categoria
+    @GetMapping("/summary/category/{category}")
+    public ResponseEntity<List<EventSummary>> getEventSummariesByCategory(@PathVariable EventCategory category) {
+        List<EventSummary> events = eventService.getEventSummariesByCategory(category);
+        return ResponseEntity.ok(events);
+    }
+    
+    // Listagem resumida por período
+    @GetMapping("/summary/date-range")
+    public ResponseEntity<List<EventSummary>> getEventSummariesByDateRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        List<EventSummary> events = eventService.getEventSummariesByDateRange(startDate, endDate);
+        return ResponseEntity.ok(events);
+    }
+}
\ No newline at end of file
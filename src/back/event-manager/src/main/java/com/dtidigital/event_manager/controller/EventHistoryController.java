@@ -0,0 +1,39 @@
+package com.dtidigital.event_manager.controller;
+
+import com.dtidigital.event_manager.model.Event;
+import com.dtidigital.event_manager.model.EventRevision;
+import com.dtidigital.event_manager.service.EventHistoryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/events/{id}/history")
+@CrossOrigin(origins = "*")
+public class EventHistoryController {
+
+    @Autowired
+    private EventHistoryService historyService;
+
+    // Revisões do evento, da mais antiga à mais recente
+    @GetMapping
+    public ResponseEntity<List<EventRevision>> getHistory(@PathVariable Long id) {
+        List<EventRevision> history = historyService.getHistory(id);
+        if (history.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(history);
+    }
+
+    // Evento como estava no instante informado (ex.: ?at=2025-11-20T10:00:00)
+    @GetMapping("/as-of")
+    public ResponseEntity<Event> getEventAsOf(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return ResponseEntity.ok(historyService.getEventAsOf(id, at));
+    }
+}
@@ -0,0 +1,43 @@
+package com.dtidigital.event_manager.controller;
+
+import com.dtidigital.event_manager.dto.WebhookSubscriptionRequest;
+import com.dtidigital.event_manager.model.WebhookSubscription;
+import com.dtidigital.event_manager.service.WebhookSubscriptionService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/webhooks")
+@CrossOrigin(origins = "*")
+public class WebhookController {
+
+    @Autowired
+    private WebhookSubscriptionService subscriptionService;
+
+    // Listar inscrições
+    @GetMapping
+    public ResponseEntity<List<WebhookSubscription>> getAllSubscriptions() {
+        return ResponseEntity.ok(subscriptionService.getAllSubscriptions());
+    }
+
+    // Cadastrar webhook
+    @PostMapping
+    public ResponseEntity<WebhookSubscription> createSubscription(@Valid @RequestBody WebhookSubscriptionRequest request) {
+        WebhookSubscription subscription = subscriptionService.createSubscription(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(subscription);
+    }
+
+    // Remover webhook
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteSubscription(@PathVariable Long id) {
+        if (!subscriptionService.deleteSubscription(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
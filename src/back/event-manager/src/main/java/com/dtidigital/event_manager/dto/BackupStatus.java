@@ -0,0 +1,20 @@
+package com.dtidigital.event_manager.dto;
+
+import com.dtidigital.event_manager.enums.BackupState;
+
+import java.time.LocalDateTime;
+
+/**
+ * Andamento de um backup. {@code totalBytes} é o tamanho esperado da cópia (páginas em uso do
+ * banco); {@code bytesWritten}, o que já foi gravado no arquivo de destino.
+ */
+public record BackupStatus(
+        String file,
+        BackupState state,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        long bytesWritten,
+        long totalBytes,
+        int percent,
+        String error) {
+}
@@ -0,0 +1,16 @@
+package com.dtidigital.event_manager.dto;
+
+import com.dtidigital.event_manager.enums.EventCategory;
+
+import java.time.LocalDate;
+
+/**
+ * Colunas de um evento usadas pelo índice espacial: posição mais os filtros de data e categoria.
+ */
+public record EventLocation(
+        Long id,
+        Double latitude,
+        Double longitude,
+        LocalDate eventDate,
+        EventCategory category) {
+}
@@ -0,0 +1,21 @@
+package com.dtidigital.event_manager.dto;
+
+import com.dtidigital.event_manager.enums.EventCategory;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Visão resumida de um evento para as listagens: apenas as colunas exibidas nos cards,
+ * sem descrição, preço, capacidade e organizador.
+ */
+public record EventSummary(
+        Long id,
+        String name,
+        @JsonFormat(pattern = "yyyy-MM-dd") LocalDate eventDate,
+        @JsonFormat(pattern = "HH:mm") LocalTime startTime,
+        @JsonFormat(pattern = "HH:mm") LocalTime endTime,
+        String location,
+        EventCategory category) {
+}
@@ -0,0 +1,7 @@
+package com.dtidigital.event_manager.dto;
+
+/**
+ * Colunas de um evento usadas pelo autocomplete.
+ */
+public record EventTerms(Long id, String name, String organizer, String location) {
+}
@@ -0,0 +1,12 @@
+package com.dtidigital.event_manager.dto;
+
+import com.dtidigital.event_manager.enums.EventCategory;
+
+import java.time.LocalDate;
+
+/**
+ * Colunas de um evento usadas para calcular eventos semelhantes.
+ */
+public record EventText(Long id, String name, String description, String organizer,
+                        EventCategory category, LocalDate eventDate) {
+}
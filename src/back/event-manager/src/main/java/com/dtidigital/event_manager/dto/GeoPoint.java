@@ -0,0 +1,7 @@
+package com.dtidigital.event_manager.dto;
+
+/**
+ * Coordenada geográfica em graus decimais (WGS84).
+ */
+public record GeoPoint(double latitude, double longitude) {
+}
@@ -0,0 +1,7 @@
+package com.dtidigital.event_manager.dto;
+
+/**
+ * Sugestão de autocomplete: o valor e quantos eventos o usam.
+ */
+public record Suggestion(String value, int count) {
+}
@@ -0,0 +1,9 @@
+package com.dtidigital.event_manager.dto;
+
+import java.util.List;
+
+/**
+ * Corpo do POST enviado a um webhook: um lote de mudanças em ordem.
+ */
+public record WebhookDelivery(Long subscriptionId, List<WebhookMessage> messages) {
+}
@@ -0,0 +1,18 @@
+package com.dtidigital.event_manager.dto;
+
+import com.dtidigital.event_manager.enums.EventChangeType;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+/**
+ * Uma mudança dentro de uma entrega de webhook. O {@code id} é o do outbox: crescente por
+ * inscrição e estável entre retentativas, para o integrador descartar repetições.
+ */
+public record WebhookMessage(
+        Long id,
+        EventChangeType type,
+        Long eventId,
+        LocalDateTime occurredAt,
+        @JsonRawValue String event) {
+}
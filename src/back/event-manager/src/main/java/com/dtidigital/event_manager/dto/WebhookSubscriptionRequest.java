@@ -0,0 +1,17 @@
+package com.dtidigital.event_manager.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Cadastro de webhook: URL que recebe os POSTs e, opcionalmente, a chave da assinatura HMAC.
+ */
+public record WebhookSubscriptionRequest(
+        @NotBlank(message = "URL is required")
+        @Size(max = 500, message = "URL must not exceed 500 characters")
+        @Pattern(regexp = "https?://.+", message = "URL must start with http:// or https://")
+        String url,
+        @Size(max = 200, message = "Secret must not exceed 200 characters")
+        String secret) {
+}
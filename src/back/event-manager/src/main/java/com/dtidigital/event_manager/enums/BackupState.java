@@ -0,0 +1,7 @@
+package com.dtidigital.event_manager.enums;
+
+public enum BackupState {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
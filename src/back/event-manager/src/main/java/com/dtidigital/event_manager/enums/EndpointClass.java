@@ -0,0 +1,10 @@
+package com.dtidigital.event_manager.enums;
+
+/**
+ * Classes de endpoint usadas pelo rate limiting, cada uma com seus próprios limites.
+ */
+public enum EndpointClass {
+    READ,
+    SEARCH,
+    WRITE
+}
@@ -0,0 +1,8 @@
+package com.dtidigital.event_manager.enums;
+
+public enum EventChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    ARCHIVED
+}
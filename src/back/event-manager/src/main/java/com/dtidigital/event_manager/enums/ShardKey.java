@@ -0,0 +1,11 @@
+package com.dtidigital.event_manager.enums;
+
+/**
+ * Critério que escolhe o shard de um evento novo.
+ */
+public enum ShardKey {
+    // Hash do organizador (sem diferenciar maiúsculas)
+    ORGANIZER,
+    // Mês da data do evento
+    MONTH
+}
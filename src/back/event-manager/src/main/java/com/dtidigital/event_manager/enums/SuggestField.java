@@ -0,0 +1,10 @@
+package com.dtidigital.event_manager.enums;
+
+/**
+ * Campos de texto livre com autocomplete.
+ */
+public enum SuggestField {
+    NAME,
+    ORGANIZER,
+    LOCATION
+}
@@ -0,0 +1,7 @@
+package com.dtidigital.event_manager.exception;
+
+public class EventIndexNotReadyException extends RuntimeException {
+    public EventIndexNotReadyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,128 @@
+package com.dtidigital.event_manager.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Guarda já comprimidas (gzip) as respostas das listagens de eventos, que só mudam
+ * quando algum evento é escrito. Assim uma listagem grande é serializada e comprimida
+ * uma vez por versão dos dados, e não a cada requisição.
+ */
+public class CompressedResponseCacheFilter extends OncePerRequestFilter {
+
+    private final int minSize;
+    private final int maxEntries;
+    private final Map<String, CachedResponse> cache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public CompressedResponseCacheFilter(int minSize, int maxEntries) {
+        this.minSize = minSize;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Descarta tudo o que foi cacheado; respostas em andamento calculadas com a
+     * versão anterior também deixam de ser reaproveitadas.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding == null || !acceptEncoding.contains("gzip");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = cacheKey(request);
+        long currentGeneration = generation.get();
+
+        CachedResponse cached = cache.get(key);
+        if (cached != null && cached.generation() == currentGeneration) {
+            cached.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+            write(response, cached);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+
+        byte[] body = wrapper.getContentAsByteArray();
+        if (wrapper.getStatus() != HttpStatus.OK.value() || body.length < minSize
+                || wrapper.getHeader(HttpHeaders.CONTENT_ENCODING) != null) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        CachedResponse compressed = new CachedResponse(currentGeneration, wrapper.getContentType(),
+                copyHeaders(wrapper), gzip(body));
+        if (cache.size() >= maxEntries) {
+            cache.clear();
+        }
+        cache.put(key, compressed);
+        write(response, compressed);
+    }
+
+    private static String cacheKey(HttpServletRequest request) {
+        return request.getRequestURI()
+                + '?' + request.getQueryString()
+                + '|' + request.getHeader(HttpHeaders.ACCEPT)
+                + '|' + request.getHeader(HttpHeaders.ORIGIN);
+    }
+
+    // Preserva headers definidos pelo controller (ex.: CORS), já que no acerto do cache ele não é executado
+    private static Map<String, List<String>> copyHeaders(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+                headers.put(name, new ArrayList<>(response.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    private static void write(HttpServletResponse response, CachedResponse cached) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(cached.contentType());
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        if (!response.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING)) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private record CachedResponse(long generation, String contentType, Map<String, List<String>> headers, byte[] body) {
+    }
+}
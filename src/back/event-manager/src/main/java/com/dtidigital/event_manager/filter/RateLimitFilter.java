@@ -0,0 +1,127 @@
+package com.dtidigital.event_manager.filter;
+
+import com.dtidigital.event_manager.enums.EndpointClass;
+import com.dtidigital.event_manager.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rate limiting por cliente e por classe de endpoint, mais um limite de requisições
+ * simultâneas por classe. Buscas com LIKE e escritas (que disputam o único writer do
+ * SQLite) são rejeitadas cedo, com 429/503 e Retry-After, antes que a latência de todos
+ * os clientes degrade.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * Limites de uma classe de endpoint.
+     */
+    public record Limits(TokenBucketRateLimiter rateLimiter, int maxConcurrent) {
+    }
+
+    private final Map<EndpointClass, Limits> limits;
+    private final ObjectMapper objectMapper;
+    private final Map<EndpointClass, AtomicInteger> inFlight = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rateLimited = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> shed = new EnumMap<>(EndpointClass.class);
+
+    public RateLimitFilter(Map<EndpointClass, Limits> limits, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.limits = limits;
+        this.objectMapper = objectMapper;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String tag = endpointClass.name().toLowerCase();
+            AtomicInteger counter = new AtomicInteger();
+            inFlight.put(endpointClass, counter);
+            Gauge.builder("events.requests.in_flight", counter, AtomicInteger::get)
+                    .tag("endpoint", tag)
+                    .register(meterRegistry);
+            rateLimited.put(endpointClass, rejectedCounter(meterRegistry, tag, "rate_limit"));
+            shed.put(endpointClass, rejectedCounter(meterRegistry, tag, "overload"));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = classify(request);
+        Limits classLimits = limits.get(endpointClass);
+        if (classLimits == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = classLimits.rateLimiter().tryAcquire(request.getRemoteAddr());
+        if (waitNanos > 0) {
+            rateLimited.get(endpointClass).increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, toRetryAfterSeconds(waitNanos),
+                    "Limite de requisições excedido");
+            return;
+        }
+
+        AtomicInteger current = inFlight.get(endpointClass);
+        if (current.incrementAndGet() > classLimits.maxConcurrent()) {
+            current.decrementAndGet();
+            shed.get(endpointClass).increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "Servidor sobrecarregado, tente novamente");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            current.decrementAndGet();
+        }
+    }
+
+    static EndpointClass classify(HttpServletRequest request) {
+        // Preflight CORS (OPTIONS) é barato e precede cada escrita cross-origin: conta como leitura
+        if (HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return EndpointClass.READ;
+        }
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return EndpointClass.WRITE;
+        }
+        String path = request.getRequestURI();
+        if (path.contains("/search") || path.endsWith("/organizer")) {
+            return EndpointClass.SEARCH;
+        }
+        return EndpointClass.READ;
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse(status.value(), message, LocalDateTime.now()));
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static Counter rejectedCounter(MeterRegistry registry, String endpoint, String reason) {
+        return Counter.builder("events.requests.rejected")
+                .tag("endpoint", endpoint)
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
@@ -0,0 +1,74 @@
+package com.dtidigital.event_manager.filter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket por chave, implementado como GCRA: o estado de cada bucket é um único
+ * {@code long} (o "theoretical arrival time") atualizado por CAS, sem locks nem alocação
+ * por requisição. O ConcurrentHashMap já distribui as chaves em segmentos independentes.
+ */
+public class TokenBucketRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstWindowNanos;
+    private final int maxKeys;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst, int maxKeys) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive and burst at least 1");
+        }
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burstWindowNanos = emissionIntervalNanos * burst;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Tenta consumir um token do bucket da chave.
+     *
+     * @return 0 se permitido; caso contrário, nanossegundos até haver um token disponível
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            evictIdleBuckets(now);
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        }
+
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + emissionIntervalNanos;
+            long wait = newTat - now - burstWindowNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    // Buckets cujo TAT já passou estão cheios: removê-los não muda o comportamento
+    private void evictIdleBuckets(long now) {
+        if (buckets.size() < maxKeys) {
+            return;
+        }
+        long last = lastSweep.get();
+        if (now - last < emissionIntervalNanos || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        buckets.values().removeIf(bucket -> {
+            long tat = bucket.get();
+            return tat == Long.MIN_VALUE || tat - now < 0;
+        });
+    }
+}
@@ -0,0 +1,107 @@
+package com.dtidigital.event_manager.model;
+
+import com.dtidigital.event_manager.enums.EventCategory;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Evento já realizado, movido da tabela principal pelo job de arquivamento.
+ * Mantém o mesmo ID do evento original.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "events_archive", indexes = {
+    @Index(name = "idx_events_archive_event_date", columnList = "event_date")
+})
+public class ArchivedEvent implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDate eventDate;
+
+    @Column(nullable = false)
+    private LocalTime startTime;
+
+    @Column(nullable = false)
+    private LocalTime endTime;
+
+    @Column(nullable = false, length = 200)
+    private String location;
+
+    @Column(nullable = false, length = 200)
+    private String organizer;
+
+    @Column(nullable = false)
+    private Integer capacity;
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal price;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private EventCategory category;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    // O ID é atribuído, então sem isso o save faria um SELECT antes de cada INSERT
+    @Transient
+    private boolean isNew = true;
+
+    public static ArchivedEvent from(Event event) {
+        ArchivedEvent archived = new ArchivedEvent();
+        archived.setId(event.getId());
+        archived.setName(event.getName());
+        archived.setEventDate(event.getEventDate());
+        archived.setStartTime(event.getStartTime());
+        archived.setEndTime(event.getEndTime());
+        archived.setLocation(event.getLocation());
+        archived.setOrganizer(event.getOrganizer());
+        archived.setCapacity(event.getCapacity());
+        archived.setDescription(event.getDescription());
+        archived.setPrice(event.getPrice());
+        archived.setCategory(event.getCategory());
+        archived.setLatitude(event.getLatitude());
+        archived.setLongitude(event.getLongitude());
+        archived.setArchivedAt(LocalDateTime.now());
+        return archived;
+    }
+
+    public Event toEvent() {
+        return new Event(id, name, eventDate, startTime, endTime, location,
+                organizer, capacity, description, price, category, latitude, longitude);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
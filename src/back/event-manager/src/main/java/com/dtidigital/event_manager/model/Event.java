@@ -18,7 +18,10 @@ import java.time.LocalTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+    @Index(name = "idx_events_event_date", columnList = "event_date"),
+    @Index(name = "idx_events_category", columnList = "category")
+})
 public class Event {
 
     @Id
@@ -74,6 +77,20 @@ public class Event {
     @Column(length = 50)
     private EventCategory category;
 
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
+    public Event(Long id, String name, LocalDate eventDate, LocalTime startTime, LocalTime endTime,
+                 String location, String organizer, Integer capacity, String description,
+                 BigDecimal price, EventCategory category) {
+        this(id, name, eventDate, startTime, endTime, location, organizer, capacity, description,
+                price, category, null, null);
+    }
 
     /**
      * Valida se o horário de início é anterior ao horário de término
@@ -85,4 +102,12 @@ public class Event {
         }
         return startTime.isBefore(endTime);
     }
+
+    /**
+     * Latitude e longitude são informadas juntas ou omitidas juntas (e então geocodificadas)
+     */
+    @AssertTrue(message = "Latitude and longitude must be provided together")
+    public boolean isValidCoordinates() {
+        return (latitude == null) == (longitude == null);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.dtidigital.event_manager.model;
+
+import com.dtidigital.event_manager.enums.EventChangeType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Mudança de evento a notificar aos webhooks (transactional outbox). Gravada na mesma transação
+ * da escrita, então só existe se a escrita foi confirmada; o ID crescente define a ordem de entrega.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "event_outbox")
+public class EventOutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EventChangeType type;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    // Evento serializado em JSON; nulo em DELETED
+    @Column(length = 4000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public EventOutboxMessage(EventChangeType type, Long eventId, String payload) {
+        this.type = type;
+        this.eventId = eventId;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+}
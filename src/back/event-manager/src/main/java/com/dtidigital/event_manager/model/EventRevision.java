@@ -0,0 +1,60 @@
+package com.dtidigital.event_manager.model;
+
+import com.dtidigital.event_manager.enums.EventChangeType;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Revisão de um evento no histórico de alterações (só inclusão, nunca alterada).
+ * {@code changes} guarda apenas os campos que mudaram, em JSON: {@code {"price": [100.00, 120.00]}}
+ * (valor anterior e novo). A primeira revisão de um evento traz todos os campos.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "event_revisions", indexes = {
+    @Index(name = "idx_event_revisions_event_revision", columnList = "event_id, revision", unique = true)
+})
+public class EventRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    // Sequencial por evento, a partir de 1
+    @Column(nullable = false)
+    private Integer revision;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EventChangeType type;
+
+    @Column(length = 100)
+    private String author;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    @JsonRawValue
+    @Column(nullable = false, length = 4000)
+    private String changes;
+
+    public EventRevision(Long eventId, Integer revision, EventChangeType type, String author,
+                         LocalDateTime changedAt, String changes) {
+        this.eventId = eventId;
+        this.revision = revision;
+        this.type = type;
+        this.author = author;
+        this.changedAt = changedAt;
+        this.changes = changes;
+    }
+}
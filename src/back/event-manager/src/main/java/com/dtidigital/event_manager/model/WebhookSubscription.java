@@ -0,0 +1,48 @@
+package com.dtidigital.event_manager.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Integrador que recebe as mudanças de eventos por webhook. {@code lastDeliveredId} é o cursor
+ * no outbox: tudo até ele já foi entregue, na ordem.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "webhook_subscriptions")
+public class WebhookSubscription {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 500)
+    private String url;
+
+    // Chave do HMAC enviado no header de assinatura; nunca devolvida pela API
+    @JsonIgnore
+    @Column(length = 200)
+    private String secret;
+
+    @Column(nullable = false)
+    private Long lastDeliveredId;
+
+    // Falhas consecutivas, usadas no backoff
+    @Column(nullable = false)
+    private int failures;
+
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
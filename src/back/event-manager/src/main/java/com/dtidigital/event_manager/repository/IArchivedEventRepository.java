@@ -0,0 +1,28 @@
+package com.dtidigital.event_manager.repository;
+
+import com.dtidigital.event_manager.enums.EventCategory;
+import com.dtidigital.event_manager.model.ArchivedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface IArchivedEventRepository extends JpaRepository<ArchivedEvent, Long> {
+
+    List<ArchivedEvent> findByCategory(EventCategory category);
+
+    List<ArchivedEvent> findByEventDateBetween(LocalDate startDate, LocalDate endDate);
+
+    List<ArchivedEvent> findByOrganizerContainingIgnoreCase(String organizer);
+
+    List<ArchivedEvent> findByNameContainingIgnoreCase(String name);
+
+    @Query("SELECT e FROM ArchivedEvent e WHERE " +
+           "LOWER(e.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
+           "LOWER(CONCAT('', e.id)) LIKE LOWER(CONCAT('%', :query, '%'))")
+    List<ArchivedEvent> findByNameOrId(@Param("query") String query);
+}
@@ -0,0 +1,31 @@
+package com.dtidigital.event_manager.repository;
+
+import com.dtidigital.event_manager.model.EventOutboxMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface IEventOutboxRepository extends JpaRepository<EventOutboxMessage, Long> {
+
+    List<EventOutboxMessage> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(m.id), 0) FROM EventOutboxMessage m")
+    long findMaxId();
+
+    // Maior ID já usado no outbox, inclusive de mensagens já removidas que ficaram no cursor de uma inscrição
+    @Query(value = "SELECT MAX(id) FROM (SELECT MAX(id) AS id FROM event_outbox " +
+           "UNION ALL SELECT MAX(last_delivered_id) FROM webhook_subscriptions)", nativeQuery = true)
+    Long findMaxUsedId();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EventOutboxMessage m WHERE m.id <= :id")
+    int deleteUpTo(@Param("id") long id);
+}
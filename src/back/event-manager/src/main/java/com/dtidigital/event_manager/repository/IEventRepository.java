@@ -1,13 +1,19 @@
 package com.dtidigital.event_manager.repository;
 
+import com.dtidigital.event_manager.dto.EventLocation;
+import com.dtidigital.event_manager.dto.EventSummary;
+import com.dtidigital.event_manager.dto.EventTerms;
+import com.dtidigital.event_manager.dto.EventText;
 import com.dtidigital.event_manager.model.Event;
 import com.dtidigital.event_manager.enums.EventCategory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -19,6 +25,8 @@ public interface IEventRepository extends JpaRepository<Event, Long> {
     
     List<Event> findByEventDateAfter(LocalDate date);
     
+    List<Event> findByEventDateBefore(LocalDate date, Pageable pageable);
+    
     List<Event> findByOrganizerContainingIgnoreCase(String organizer);
     
     List<Event> findByNameContainingIgnoreCase(String name);
@@ -33,4 +41,50 @@ public interface IEventRepository extends JpaRepository<Event, Long> {
     
     @Query("SELECT e FROM Event e WHERE e.category = :category AND e.eventDate >= :currentDate")
     List<Event> findUpcomingEventsByCategory(@Param("category") EventCategory category, @Param("currentDate") LocalDate currentDate);
+    
+    // Projeções resumidas: selecionam só as colunas usadas nas listagens
+    @Query("SELECT new com.dtidigital.event_manager.dto.EventSummary(" +
+           "e.id, e.name, e.eventDate, e.startTime, e.endTime, e.location, e.category) FROM Event e")
+    List<EventSummary> findAllSummaries();
+    
+    @Query("SELECT new com.dtidigital.event_manager.dto.EventSummary(" +
+           "e.id, e.name, e.eventDate, e.startTime, e.endTime, e.location, e.category) " +
+           "FROM Event e WHERE e.category = :category")
+    List<EventSummary> findSummariesByCategory(@Param("category") EventCategory category);
+    
+    @Query("SELECT new com.dtidigital.event_manager.dto.EventSummary(" +
+           "e.id, e.name, e.eventDate, e.startTime, e.endTime, e.location, e.category) " +
+           "FROM Event e WHERE e.eventDate >= :startDate AND e.eventDate <= :endDate")
+    List<EventSummary> findSummariesByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    
+    // Carga inicial do índice espacial: só eventos com coordenadas e só as colunas que ele usa
+    @Query("SELECT new com.dtidigital.event_manager.dto.EventLocation(" +
+           "e.id, e.latitude, e.longitude, e.eventDate, e.category) " +
+           "FROM Event e WHERE e.latitude IS NOT NULL AND e.longitude IS NOT NULL")
+    List<EventLocation> findAllLocations();
+    
+    // Carga inicial do autocomplete
+    @Query("SELECT new com.dtidigital.event_manager.dto.EventTerms(e.id, e.name, e.organizer, e.location) FROM Event e")
+    List<EventTerms> findAllTerms();
+    
+    // Carga do índice de eventos semelhantes
+    @Query("SELECT new com.dtidigital.event_manager.dto.EventText(e.id, e.name, e.description, e.organizer, e.category, e.eventDate) FROM Event e")
+    List<EventText> findAllTexts();
+    
+    // Carga do índice de semelhantes quando a consulta completa falha: em lotes de IDs, para isolar linhas ilegíveis
+    @Query("SELECT e.id FROM Event e ORDER BY e.id")
+    List<Long> findAllIds();
+    
+    @Query("SELECT new com.dtidigital.event_manager.dto.EventText(e.id, e.name, e.description, e.organizer, e.category, e.eventDate) " +
+           "FROM Event e WHERE e.id IN :ids")
+    List<EventText> findTextsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // Migração para os shards: eventos da tabela principal em páginas, por ID
+    List<Event> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    // Maior ID de evento já usado, inclusive por eventos arquivados ou apagados que ainda têm histórico ou webhooks
+    @Query(value = "SELECT MAX(id) FROM (SELECT MAX(id) AS id FROM events UNION ALL SELECT MAX(id) FROM events_archive " +
+           "UNION ALL SELECT MAX(event_id) FROM event_revisions UNION ALL SELECT MAX(event_id) FROM event_outbox)",
+           nativeQuery = true)
+    Long findMaxUsedId();
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.dtidigital.event_manager.repository;
+
+import com.dtidigital.event_manager.model.EventRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface IEventRevisionRepository extends JpaRepository<EventRevision, Long> {
+
+    List<EventRevision> findByEventIdOrderByRevisionAsc(Long eventId);
+
+    List<EventRevision> findByEventIdAndChangedAtLessThanEqualOrderByRevisionAsc(Long eventId, LocalDateTime changedAt);
+
+    // Pares [eventId, última revisão] dos eventos que já têm histórico
+    @Query("SELECT r.eventId, MAX(r.revision) FROM EventRevision r WHERE r.eventId IN :eventIds GROUP BY r.eventId")
+    List<Object[]> findLastRevisions(@Param("eventIds") Collection<Long> eventIds);
+}
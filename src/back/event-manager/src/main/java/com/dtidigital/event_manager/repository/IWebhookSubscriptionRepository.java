@@ -0,0 +1,33 @@
+package com.dtidigital.event_manager.repository;
+
+import com.dtidigital.event_manager.model.WebhookSubscription;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IWebhookSubscriptionRepository extends JpaRepository<WebhookSubscription, Long> {
+
+    // Menor cursor entre as inscrições: o outbox até ele já foi entregue a todas
+    @Query("SELECT MIN(s.lastDeliveredId) FROM WebhookSubscription s")
+    Long findMinDeliveredId();
+
+    // Atualizações pontuais: salvar a entidade inteira recriaria uma inscrição removida durante a entrega
+    @Transactional
+    @Modifying
+    @Query("UPDATE WebhookSubscription s SET s.lastDeliveredId = :deliveredId, s.failures = 0, " +
+           "s.nextAttemptAt = NULL, s.lastError = NULL WHERE s.id = :id")
+    int markDelivered(@Param("id") Long id, @Param("deliveredId") Long deliveredId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE WebhookSubscription s SET s.failures = :failures, s.nextAttemptAt = :nextAttemptAt, " +
+           "s.lastError = :error WHERE s.id = :id")
+    int markFailed(@Param("id") Long id, @Param("failures") int failures,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+}
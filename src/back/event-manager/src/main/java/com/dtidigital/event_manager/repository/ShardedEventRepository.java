@@ -0,0 +1,621 @@
+package com.dtidigital.event_manager.repository;
+
+import com.dtidigital.event_manager.dto.EventLocation;
+import com.dtidigital.event_manager.dto.EventSummary;
+import com.dtidigital.event_manager.dto.EventTerms;
+import com.dtidigital.event_manager.dto.EventText;
+import com.dtidigital.event_manager.enums.EventCategory;
+import com.dtidigital.event_manager.enums.ShardKey;
+import com.dtidigital.event_manager.model.Event;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Eventos particionados em vários arquivos SQLite ({@code events.sharding.enabled=true}). O SQLite
+ * tem um único writer por arquivo; com N arquivos, escritas em shards diferentes não disputam o mesmo lock.
+ * <p>
+ * O shard de um evento novo vem da chave configurada ({@link ShardKey}) e fica gravado no próprio ID,
+ * {@code id = idLocal * N + shard}: leituras e escritas por ID vão direto ao shard certo, e o evento
+ * não muda de shard se o organizador ou a data mudarem. Por isso o número de shards não pode mudar
+ * depois que há dados; cada arquivo guarda o valor com que foi criado e a inicialização falha se divergir.
+ * <p>
+ * Consultas sem ID vão a todos os shards em paralelo; cada shard devolve as linhas ordenadas por ID
+ * e os resultados são intercalados, mantendo a ordem global por ID.
+ * <p>
+ * Ao ligar o sharding, os eventos que ainda estão na tabela principal são movidos para os shards com o
+ * mesmo ID (ficam no shard que o ID indica, não no da chave), e os IDs novos começam acima de todos os
+ * já usados, inclusive os de eventos arquivados e os referenciados pelo histórico e pelo outbox.
+ */
+@Repository
+@ConditionalOnProperty(name = "events.sharding.enabled", havingValue = "true")
+public class ShardedEventRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedEventRepository.class);
+
+    private static final String EVENT_COLUMNS = "id, name, event_date, start_time, end_time, location, organizer, "
+            + "capacity, description, price, category, latitude, longitude";
+    private static final String SUMMARY_COLUMNS = "id, name, event_date, start_time, end_time, location, category";
+    private static final String WRITE_COLUMNS = "name = ?, event_date = ?, start_time = ?, end_time = ?, location = ?, "
+            + "organizer = ?, capacity = ?, description = ?, price = ?, category = ?, latitude = ?, longitude = ?";
+    private static final int MIGRATION_BATCH = 500;
+
+    // Tabela principal, usada só para migrar o que havia antes do sharding
+    @Autowired
+    private IEventRepository eventRepository;
+
+    @Value("${events.sharding.shards:4}")
+    private int shards;
+
+    @Value("${events.sharding.directory:data/shards}")
+    private String directory;
+
+    @Value("${events.sharding.key:ORGANIZER}")
+    private ShardKey key;
+
+    @Value("${events.sharding.pool-size:4}")
+    private int poolSize;
+
+    private final List<HikariDataSource> dataSources = new ArrayList<>();
+    private ExecutorService executor;
+
+    @PostConstruct
+    void start() throws IOException, SQLException {
+        if (shards < 1) {
+            throw new IllegalStateException("events.sharding.shards deve ser pelo menos 1");
+        }
+        Path folder = Files.createDirectories(Path.of(directory));
+        for (int shard = 0; shard < shards; shard++) {
+            HikariDataSource dataSource = dataSource(folder.resolve("events-" + shard + ".db"), shard);
+            dataSources.add(dataSource);
+            createSchema(dataSource, shard);
+        }
+        reserveIds();
+        migrate();
+        // As consultas passam a maior parte do tempo esperando o SQLite; o pool de cada shard limita a concorrência
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        log.info("Eventos particionados em {} shards em {} (chave {})", shards, folder.toAbsolutePath(), key);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        dataSources.forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource dataSource(Path file, int shard) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("event-shard-" + shard);
+        config.setJdbcUrl("jdbc:sqlite:" + file);
+        config.setMaximumPoolSize(poolSize);
+        // Repassadas ao driver como pragmas de cada conexão
+        config.addDataSourceProperty("journal_mode", "WAL");
+        config.addDataSourceProperty("busy_timeout", "5000");
+        return new HikariDataSource(config);
+    }
+
+    private void createSchema(HikariDataSource dataSource, int shard) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            // AUTOINCREMENT: o ID de um evento apagado não é reaproveitado (histórico e webhooks referem-se a ele)
+            statement.execute("CREATE TABLE IF NOT EXISTS events ("
+                    + "id INTEGER PRIMARY KEY AUTOINCREMENT, name TEXT NOT NULL, event_date TEXT NOT NULL, "
+                    + "start_time TEXT NOT NULL, end_time TEXT NOT NULL, location TEXT NOT NULL, "
+                    + "organizer TEXT NOT NULL, capacity INTEGER NOT NULL, description TEXT, price TEXT, "
+                    + "category TEXT, latitude REAL, longitude REAL)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_events_event_date ON events (event_date)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_events_category ON events (category)");
+            statement.execute("CREATE TABLE IF NOT EXISTS shard_info (shard INTEGER NOT NULL, shards INTEGER NOT NULL)");
+            try (ResultSet result = statement.executeQuery("SELECT shard, shards FROM shard_info")) {
+                if (result.next()) {
+                    if (result.getInt(1) != shard || result.getInt(2) != shards) {
+                        throw new IllegalStateException("O shard " + shard + " foi criado como " + result.getInt(1)
+                                + " de " + result.getInt(2) + "; events.sharding.shards não pode mudar");
+                    }
+                    return;
+                }
+            }
+            statement.execute("INSERT INTO shard_info (shard, shards) VALUES (" + shard + ", " + shards + ")");
+        }
+    }
+
+    // O próximo ID local de cada shard passa a gerar IDs globais maiores que qualquer ID já usado
+    private void reserveIds() throws SQLException {
+        Long maxUsed = eventRepository.findMaxUsedId();
+        if (maxUsed == null) {
+            return;
+        }
+        long localId = localId(maxUsed);
+        for (HikariDataSource dataSource : dataSources) {
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement update = connection.prepareStatement(
+                         "UPDATE sqlite_sequence SET seq = ? WHERE name = 'events' AND seq < ?");
+                 PreparedStatement insert = connection.prepareStatement("INSERT INTO sqlite_sequence (name, seq) "
+                         + "SELECT 'events', ? WHERE NOT EXISTS (SELECT 1 FROM sqlite_sequence WHERE name = 'events')")) {
+                bind(update, localId, localId);
+                update.executeUpdate();
+                bind(insert, localId);
+                insert.executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * Move os eventos da tabela principal para os shards, em lotes: cada lote é gravado nos shards (sem
+     * sobrescrever o que já estiver lá) e só então apagado da tabela principal, então uma migração
+     * interrompida continua de onde parou na próxima inicialização.
+     */
+    private void migrate() throws SQLException {
+        int moved = 0;
+        long lastId = 0;
+        List<Event> batch;
+        while (!(batch = eventRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, MIGRATION_BATCH))).isEmpty()) {
+            Map<Integer, List<Event>> byShard = batch.stream().collect(Collectors.groupingBy(event -> shardOf(event.getId())));
+            for (Map.Entry<Integer, List<Event>> entry : byShard.entrySet()) {
+                copy(entry.getKey(), entry.getValue());
+            }
+            List<Long> ids = batch.stream().map(Event::getId).toList();
+            eventRepository.deleteAllByIdInBatch(ids);
+            lastId = ids.get(ids.size() - 1);
+            moved += ids.size();
+        }
+        if (moved > 0) {
+            log.info("{} eventos movidos da tabela principal para os shards", moved);
+        }
+    }
+
+    private void copy(int shard, List<Event> events) throws SQLException {
+        String sql = "INSERT OR IGNORE INTO events (id, name, event_date, start_time, end_time, location, organizer, "
+                + "capacity, description, price, category, latitude, longitude) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        try (Connection connection = dataSources.get(shard).getConnection();
+             PreparedStatement insert = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(false);
+            try {
+                for (Event event : events) {
+                    insert.setLong(1, localId(event.getId()));
+                    bindFrom(insert, 1, eventValues(event));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Conexões de cada shard, na ordem dos arquivos ({@code events-0.db}, {@code events-1.db}, ...).
+     */
+    public List<DataSource> shardDataSources() {
+        return Collections.unmodifiableList(dataSources);
+    }
+
+    /**
+     * Shard em que está o evento com este ID.
+     */
+    public int shardOf(long id) {
+        return (int) Math.floorMod(id, (long) shards);
+    }
+
+    /**
+     * Shard que recebe um evento novo, segundo a chave configurada.
+     */
+    public int shardFor(Event event) {
+        return switch (key) {
+            case ORGANIZER -> event.getOrganizer() == null ? 0
+                    : Math.floorMod(event.getOrganizer().strip().toLowerCase(Locale.ROOT).hashCode(), shards);
+            case MONTH -> event.getEventDate() == null ? 0
+                    : Math.floorMod(event.getEventDate().getYear() * 12 + event.getEventDate().getMonthValue() - 1, shards);
+        };
+    }
+
+    private long globalId(long localId, int shard) {
+        return localId * shards + shard;
+    }
+
+    private long localId(long id) {
+        return Math.floorDiv(id, (long) shards);
+    }
+
+    // Escritas: cada uma vai a um único shard, em autocommit
+
+    /**
+     * Atualiza o evento se o ID já existir; senão insere com um ID novo, como o {@code save} do JPA.
+     */
+    public Event save(Event event) {
+        if (event.getId() != null && update(event)) {
+            return event;
+        }
+        int shard = shardFor(event);
+        String sql = "INSERT INTO events (name, event_date, start_time, end_time, location, organizer, capacity, "
+                + "description, price, category, latitude, longitude) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        try (Connection connection = dataSources.get(shard).getConnection();
+             PreparedStatement insert = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            bindEvent(insert, event);
+            insert.executeUpdate();
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                keys.next();
+                event.setId(globalId(keys.getLong(1), shard));
+            }
+            return event;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Falha ao gravar evento no shard " + shard, e);
+        }
+    }
+
+    private boolean update(Event event) {
+        int shard = shardOf(event.getId());
+        try (Connection connection = dataSources.get(shard).getConnection();
+             PreparedStatement update = connection.prepareStatement("UPDATE events SET " + WRITE_COLUMNS + " WHERE id = ?")) {
+            bindEvent(update, event);
+            update.setLong(13, localId(event.getId()));
+            return update.executeUpdate() > 0;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Falha ao atualizar o evento " + event.getId(), e);
+        }
+    }
+
+    public void deleteById(Long id) {
+        deleteAllById(List.of(id));
+    }
+
+    public void deleteAllById(Collection<Long> ids) {
+        forEachShard(ids, (shard, localIds) -> {
+            try (Connection connection = dataSources.get(shard).getConnection();
+                 PreparedStatement delete = connection.prepareStatement(
+                         "DELETE FROM events WHERE id IN (" + placeholders(localIds.size()) + ")")) {
+                bind(delete, localIds.toArray());
+                delete.executeUpdate();
+            } catch (SQLException e) {
+                throw new IllegalStateException("Falha ao apagar eventos do shard " + shard, e);
+            }
+            return List.<Long>of();
+        }, id -> id);
+    }
+
+    // Leituras por ID: só os shards dos IDs pedidos
+
+    public Optional<Event> findById(Long id) {
+        List<Event> found = findAllById(List.of(id));
+        return found.isEmpty() ? Optional.empty() : Optional.of(found.get(0));
+    }
+
+    public boolean existsById(Long id) {
+        int shard = shardOf(id);
+        return !query(shard, "SELECT id FROM events WHERE id = ?", (result, s) -> result.getLong(1), localId(id)).isEmpty();
+    }
+
+    public List<Event> findAllById(Collection<Long> ids) {
+        return forEachShard(ids, (shard, localIds) -> query(shard,
+                "SELECT " + EVENT_COLUMNS + " FROM events WHERE id IN (" + placeholders(localIds.size()) + ") ORDER BY id",
+                this::event, localIds.toArray()), Event::getId);
+    }
+
+    // Consultas distribuídas: os mesmos filtros do IEventRepository, executados em todos os shards
+
+    public List<Event> findAll() {
+        return queryAll(EVENT_COLUMNS, "", this::event, Event::getId);
+    }
+
+    public List<Event> findByCategory(EventCategory category) {
+        return queryAll(EVENT_COLUMNS, " WHERE category = ?", this::event, Event::getId, category);
+    }
+
+    public List<Event> findByEventDateBetween(LocalDate startDate, LocalDate endDate) {
+        return queryAll(EVENT_COLUMNS, " WHERE event_date BETWEEN ? AND ?", this::event, Event::getId, startDate, endDate);
+    }
+
+    public List<Event> findByEventDateAfter(LocalDate date) {
+        return queryAll(EVENT_COLUMNS, " WHERE event_date > ?", this::event, Event::getId, date);
+    }
+
+    /**
+     * Os {@code limit} eventos de menor ID anteriores a {@code date}; cada shard devolve no máximo {@code limit}.
+     */
+    public List<Event> findByEventDateBefore(LocalDate date, int limit) {
+        List<Event> merged = scatter("SELECT " + EVENT_COLUMNS + " FROM events WHERE event_date < ? ORDER BY id LIMIT ?",
+                this::event, Event::getId, date, limit);
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+
+    public List<Event> findByOrganizerContainingIgnoreCase(String organizer) {
+        return queryAll(EVENT_COLUMNS, " WHERE LOWER(organizer) LIKE '%' || LOWER(?) || '%'", this::event,
+                Event::getId, organizer);
+    }
+
+    public List<Event> findByNameContainingIgnoreCase(String name) {
+        return queryAll(EVENT_COLUMNS, " WHERE LOWER(name) LIKE '%' || LOWER(?) || '%'", this::event,
+                Event::getId, name);
+    }
+
+    // O ID comparado é o global, calculado em cada shard a partir do local
+    public List<Event> findByNameOrId(String query) {
+        List<Callable<List<Event>>> tasks = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            int target = shard;
+            String sql = "SELECT " + EVENT_COLUMNS + " FROM events WHERE LOWER(name) LIKE '%' || LOWER(?) || '%' "
+                    + "OR CAST(id * " + shards + " + " + shard + " AS TEXT) LIKE '%' || ? || '%' ORDER BY id";
+            tasks.add(() -> query(target, sql, this::event, query, query));
+        }
+        return mergeById(invokeAll(tasks), Event::getId);
+    }
+
+    public List<Event> findUpcomingEventsByCategory(EventCategory category, LocalDate currentDate) {
+        return queryAll(EVENT_COLUMNS, " WHERE category = ? AND event_date >= ?", this::event, Event::getId,
+                category, currentDate);
+    }
+
+    public List<EventSummary> findAllSummaries() {
+        return queryAll(SUMMARY_COLUMNS, "", this::summary, EventSummary::id);
+    }
+
+    public List<EventSummary> findSummariesByCategory(EventCategory category) {
+        return queryAll(SUMMARY_COLUMNS, " WHERE category = ?", this::summary, EventSummary::id, category);
+    }
+
+    public List<EventSummary> findSummariesByDateRange(LocalDate startDate, LocalDate endDate) {
+        return queryAll(SUMMARY_COLUMNS, " WHERE event_date >= ? AND event_date <= ?", this::summary,
+                EventSummary::id, startDate, endDate);
+    }
+
+    // Cargas dos índices em memória
+
+    public List<EventLocation> findAllLocations() {
+        return queryAll("id, latitude, longitude, event_date, category",
+                " WHERE latitude IS NOT NULL AND longitude IS NOT NULL",
+                (result, shard) -> new EventLocation(globalId(result.getLong(1), shard), result.getDouble(2),
+                        result.getDouble(3), LocalDate.parse(result.getString(4)), category(result.getString(5))),
+                EventLocation::id);
+    }
+
+    public List<EventTerms> findAllTerms() {
+        return queryAll("id, name, organizer, location", "",
+                (result, shard) -> new EventTerms(globalId(result.getLong(1), shard), result.getString(2),
+                        result.getString(3), result.getString(4)),
+                EventTerms::id);
+    }
+
+    public List<EventText> findAllTexts() {
+        return queryAll("id, name, description, organizer, category, event_date", "",
+                (result, shard) -> new EventText(globalId(result.getLong(1), shard), result.getString(2),
+                        result.getString(3), result.getString(4), category(result.getString(5)),
+                        LocalDate.parse(result.getString(6))),
+                EventText::id);
+    }
+
+    // Execução
+
+    private <T> List<T> queryAll(String columns, String where, RowReader<T> reader, ToLongFunction<T> idOf,
+                                 Object... parameters) {
+        return scatter("SELECT " + columns + " FROM events" + where + " ORDER BY id", reader, idOf, parameters);
+    }
+
+    // Executa a mesma consulta, que deve ordenar por ID, em todos os shards
+    private <T> List<T> scatter(String sql, RowReader<T> reader, ToLongFunction<T> idOf, Object... parameters) {
+        List<Callable<List<T>>> tasks = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            int target = shard;
+            tasks.add(() -> query(target, sql, reader, parameters));
+        }
+        return mergeById(invokeAll(tasks), idOf);
+    }
+
+    // Agrupa os IDs por shard e executa a operação em cada shard envolvido, em paralelo
+    private <T> List<T> forEachShard(Collection<Long> ids, BiFunction<Integer, List<Long>, List<T>> operation,
+                                     ToLongFunction<T> idOf) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Callable<List<T>>> tasks = ids.stream()
+                .distinct()
+                .collect(Collectors.groupingBy(this::shardOf, Collectors.mapping(this::localId, Collectors.toList())))
+                .entrySet().stream()
+                .<Callable<List<T>>>map(entry -> () -> operation.apply(entry.getKey(), entry.getValue()))
+                .toList();
+        return mergeById(invokeAll(tasks), idOf);
+    }
+
+    private <T> List<List<T>> invokeAll(List<Callable<List<T>>> tasks) {
+        // Um shard só (busca por ID): executa na própria thread
+        if (tasks.size() == 1) {
+            try {
+                return List.of(tasks.get(0).call());
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("Falha ao consultar os shards", e);
+            }
+        }
+        try {
+            List<List<T>> results = new ArrayList<>(tasks.size());
+            for (Future<List<T>> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Consulta aos shards interrompida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Falha ao consultar os shards", e.getCause());
+        }
+    }
+
+    private <T> List<T> query(int shard, String sql, RowReader<T> reader, Object... parameters) {
+        try (Connection connection = dataSources.get(shard).getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            bind(statement, parameters);
+            try (ResultSet result = statement.executeQuery()) {
+                List<T> rows = new ArrayList<>();
+                while (result.next()) {
+                    rows.add(reader.read(result, shard));
+                }
+                return rows;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Falha ao consultar o shard " + shard, e);
+        }
+    }
+
+    /**
+     * Intercala listas já ordenadas pelo ID, mantendo a ordem.
+     */
+    static <T> List<T> mergeById(List<List<T>> sorted, ToLongFunction<T> idOf) {
+        if (sorted.size() == 1) {
+            return sorted.get(0);
+        }
+        List<T> merged = new ArrayList<>(sorted.stream().mapToInt(List::size).sum());
+        PriorityQueue<Cursor<T>> heads = new PriorityQueue<>();
+        for (List<T> rows : sorted) {
+            Iterator<T> iterator = rows.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Cursor<>(iterator, iterator.next(), idOf));
+            }
+        }
+        while (!heads.isEmpty()) {
+            Cursor<T> head = heads.poll();
+            merged.add(head.current);
+            if (head.iterator.hasNext()) {
+                head.current = head.iterator.next();
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    // Linhas e parâmetros: datas e horas em texto ISO (ordenam como as datas), preço em texto para não perder escala
+
+    private Event event(ResultSet result, int shard) throws SQLException {
+        return new Event(globalId(result.getLong(1), shard), result.getString(2), LocalDate.parse(result.getString(3)),
+                LocalTime.parse(result.getString(4)), LocalTime.parse(result.getString(5)), result.getString(6),
+                result.getString(7), result.getInt(8), result.getString(9), decimal(result.getString(10)),
+                category(result.getString(11)), nullableDouble(result, 12), nullableDouble(result, 13));
+    }
+
+    private EventSummary summary(ResultSet result, int shard) throws SQLException {
+        return new EventSummary(globalId(result.getLong(1), shard), result.getString(2),
+                LocalDate.parse(result.getString(3)), LocalTime.parse(result.getString(4)),
+                LocalTime.parse(result.getString(5)), result.getString(6), category(result.getString(7)));
+    }
+
+    private static void bindEvent(PreparedStatement statement, Event event) throws SQLException {
+        bind(statement, eventValues(event));
+    }
+
+    private static Object[] eventValues(Event event) {
+        return new Object[] {event.getName(), event.getEventDate(), event.getStartTime(), event.getEndTime(),
+                event.getLocation(), event.getOrganizer(), event.getCapacity(), event.getDescription(),
+                event.getPrice(), event.getCategory(), event.getLatitude(), event.getLongitude()};
+    }
+
+    private static void bind(PreparedStatement statement, Object... parameters) throws SQLException {
+        bindFrom(statement, 0, parameters);
+    }
+
+    // Liga os parâmetros a partir da posição offset + 1
+    private static void bindFrom(PreparedStatement statement, int offset, Object... parameters) throws SQLException {
+        for (int i = 0; i < parameters.length; i++) {
+            Object value = parameters[i];
+            int index = offset + i + 1;
+            if (value == null) {
+                statement.setNull(index, Types.NULL);
+            } else if (value instanceof BigDecimal decimal) {
+                statement.setString(index, decimal.toPlainString());
+            } else if (value instanceof Enum<?> constant) {
+                statement.setString(index, constant.name());
+            } else if (value instanceof LocalDate || value instanceof LocalTime) {
+                statement.setString(index, value.toString());
+            } else {
+                statement.setObject(index, value);
+            }
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static BigDecimal decimal(String value) {
+        return value == null ? null : new BigDecimal(value);
+    }
+
+    private static EventCategory category(String value) {
+        return value == null ? null : EventCategory.valueOf(value);
+    }
+
+    private static Double nullableDouble(ResultSet result, int column) throws SQLException {
+        double value = result.getDouble(column);
+        return result.wasNull() ? null : value;
+    }
+
+    @FunctionalInterface
+    private interface RowReader<T> {
+        T read(ResultSet result, int shard) throws SQLException;
+    }
+
+    private static final class Cursor<T> implements Comparable<Cursor<T>> {
+
+        private final Iterator<T> iterator;
+        private final ToLongFunction<T> idOf;
+        private T current;
+
+        private Cursor(Iterator<T> iterator, T current, ToLongFunction<T> idOf) {
+            this.iterator = iterator;
+            this.current = current;
+            this.idOf = idOf;
+        }
+
+        @Override
+        public int compareTo(Cursor<T> other) {
+            return Long.compare(idOf.applyAsLong(current), idOf.applyAsLong(other.current));
+        }
+    }
+}
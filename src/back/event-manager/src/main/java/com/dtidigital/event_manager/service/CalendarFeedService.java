@@ -0,0 +1,273 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.enums.EventCategory;
+import com.dtidigital.event_manager.enums.EventChangeType;
+import com.dtidigital.event_manager.exception.EventValidationException;
+import com.dtidigital.event_manager.model.Event;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Feeds iCalendar (ICS) para assinatura em aplicativos de calendário, que repetem a consulta a cada
+ * poucos minutos. Cada feed fica em memória como os VEVENTs já formatados de cada evento; uma escrita
+ * só reformata o evento alterado e só afeta os feeds em que ele entra ou de que sai. Os demais
+ * continuam com o mesmo corpo e o mesmo ETag, e o cliente recebe 304.
+ * <p>
+ * Feeds até {@code events.calendar.max-buffered-bytes} são montados num único array; os maiores são
+ * escritos direto na resposta, VEVENT a VEVENT, sem montar o corpo inteiro.
+ */
+@Service
+public class CalendarFeedService {
+
+    @Autowired
+    private EventService eventService;
+
+    @Value("${events.calendar.max-feeds:256}")
+    private int maxFeeds;
+
+    @Value("${events.calendar.max-buffered-bytes:1048576}")
+    private int maxBufferedBytes;
+
+    @Value("${events.calendar.time-zone:America/Sao_Paulo}")
+    private String timeZone;
+
+    private final Map<FeedKey, FeedState> feeds = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+    // As versões recomeçam a cada inicialização; o prefixo evita repetir um ETag de outra execução
+    private final String instance = Long.toString(System.currentTimeMillis(), 36);
+    private IcsRenderer renderer;
+
+    @PostConstruct
+    void start() {
+        renderer = new IcsRenderer(ZoneId.of(timeZone));
+    }
+
+    /**
+     * Feed atual da chave, carregado do banco no primeiro acesso.
+     */
+    public Feed getFeed(FeedKey key) {
+        FeedState state = feeds.get(key);
+        if (state == null) {
+            evictIfFull();
+            state = feeds.computeIfAbsent(key, FeedState::new);
+        }
+        state.lastAccess = System.nanoTime();
+        load(state);
+        return state.snapshot();
+    }
+
+    // Depois do commit, como os índices em memória; feeds ainda carregando guardam a mudança para reaplicar
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        Event after = change.type() == EventChangeType.CREATED || change.type() == EventChangeType.UPDATED
+                ? change.after() : null;
+        PendingChange pending = new PendingChange(change.eventId(), after, Instant.now());
+        byte[] rendered = null;
+        for (FeedState state : feeds.values()) {
+            synchronized (state) {
+                if (state.pending != null) {
+                    state.pending.add(pending);
+                    continue;
+                }
+                boolean member = after != null && state.key.matches(after);
+                if (member && rendered == null) {
+                    rendered = renderer.event(after, pending.at());
+                }
+                state.apply(change.eventId(), member ? rendered : null, pending.at());
+            }
+        }
+    }
+
+    private void load(FeedState state) {
+        if (state.loaded) {
+            return;
+        }
+        synchronized (state.loadLock) {
+            if (state.loaded) {
+                return;
+            }
+            // Consulta e formatação fora do lock do feed, para não segurar as escritas
+            Instant now = Instant.now();
+            NavigableMap<Long, byte[]> members = new TreeMap<>();
+            for (Event event : query(state.key)) {
+                if (state.key.matches(event)) {
+                    members.put(event.getId(), renderer.event(event, now));
+                }
+            }
+            synchronized (state) {
+                state.members = members;
+                state.touch(now);
+                for (PendingChange change : state.pending) {
+                    boolean member = change.after() != null && state.key.matches(change.after());
+                    state.apply(change.eventId(), member ? renderer.event(change.after(), change.at()) : null,
+                            change.at());
+                }
+                state.pending = null;
+                state.loaded = true;
+            }
+        }
+    }
+
+    // A consulta mais seletiva disponível; a chave filtra o resto (e o organizador exato)
+    private List<Event> query(FeedKey key) {
+        if (key.startDate() != null && key.endDate() != null) {
+            return eventService.getEventsByDateRange(key.startDate(), key.endDate());
+        }
+        if (key.category() != null) {
+            return eventService.getEventsByCategory(key.category());
+        }
+        if (key.organizer() != null) {
+            return eventService.getEventsByOrganizer(key.organizer());
+        }
+        return eventService.getAllEvents();
+    }
+
+    // Descarta o feed consultado há mais tempo
+    private void evictIfFull() {
+        if (feeds.size() < maxFeeds) {
+            return;
+        }
+        feeds.values().stream()
+                .min(Comparator.comparingLong(state -> state.lastAccess))
+                .ifPresent(oldest -> feeds.remove(oldest.key, oldest));
+    }
+
+    /**
+     * Filtro de um feed; campos nulos não filtram. O organizador é comparado por igualdade, sem
+     * diferenciar maiúsculas, e o intervalo de datas inclui os extremos.
+     */
+    public record FeedKey(EventCategory category, String organizer, LocalDate startDate, LocalDate endDate) {
+
+        public static FeedKey category(EventCategory category) {
+            return new FeedKey(category, null, null, null);
+        }
+
+        public static FeedKey organizer(String organizer) {
+            if (organizer == null || organizer.isBlank()) {
+                throw new EventValidationException("O organizador é obrigatório");
+            }
+            return new FeedKey(null, organizer.strip(), null, null);
+        }
+
+        public static FeedKey dateRange(LocalDate startDate, LocalDate endDate) {
+            if (startDate.isAfter(endDate)) {
+                throw new EventValidationException("startDate deve ser anterior ou igual a endDate");
+            }
+            return new FeedKey(null, null, startDate, endDate);
+        }
+
+        boolean matches(Event event) {
+            return (category == null || category == event.getCategory())
+                    && (organizer == null || organizer.equalsIgnoreCase(event.getOrganizer()))
+                    && (startDate == null || !event.getEventDate().isBefore(startDate))
+                    && (endDate == null || !event.getEventDate().isAfter(endDate));
+        }
+
+        String calendarName() {
+            List<String> parts = new ArrayList<>(3);
+            if (category != null) {
+                parts.add(category.name());
+            }
+            if (organizer != null) {
+                parts.add(organizer);
+            }
+            if (startDate != null || endDate != null) {
+                parts.add((startDate == null ? "" : startDate) + " a " + (endDate == null ? "" : endDate));
+            }
+            return parts.isEmpty() ? "Eventos" : "Eventos - " + String.join(" - ", parts);
+        }
+    }
+
+    /**
+     * Versão imutável de um feed: o corpo montado ou, se grande, as partes (cabeçalho, VEVENTs e rodapé).
+     */
+    public record Feed(String etag, Instant lastModified, long contentLength, int eventCount, List<byte[]> parts) {
+
+        public void writeTo(OutputStream out) throws IOException {
+            for (byte[] part : parts) {
+                out.write(part);
+            }
+        }
+    }
+
+    private record PendingChange(Long eventId, Event after, Instant at) {
+    }
+
+    // Estado mutável de um feed, protegido pelo monitor do próprio objeto
+    private final class FeedState {
+
+        private final FeedKey key;
+        private final Object loadLock = new Object();
+        private volatile boolean loaded;
+        private volatile long lastAccess;
+        private NavigableMap<Long, byte[]> members = new TreeMap<>();
+        private List<PendingChange> pending = new ArrayList<>();
+        private Instant lastModified;
+        private Feed feed;
+
+        private FeedState(FeedKey key) {
+            this.key = key;
+        }
+
+        // rendered nulo: o evento não pertence (mais) a este feed
+        private void apply(Long eventId, byte[] rendered, Instant at) {
+            if (rendered != null) {
+                members.put(eventId, rendered);
+                touch(at);
+            } else if (members.remove(eventId) != null) {
+                touch(at);
+            }
+        }
+
+        // Last-Modified tem resolução de segundos: cada mudança avança pelo menos um segundo
+        private void touch(Instant at) {
+            Instant second = at.truncatedTo(ChronoUnit.SECONDS);
+            lastModified = lastModified == null || second.isAfter(lastModified) ? second : lastModified.plusSeconds(1);
+            feed = null;
+        }
+
+        private synchronized Feed snapshot() {
+            if (feed != null) {
+                return feed;
+            }
+            List<byte[]> parts = new ArrayList<>(members.size() + 2);
+            parts.add(renderer.header(key.calendarName()));
+            parts.addAll(members.values());
+            parts.add(IcsRenderer.FOOTER);
+            long length = 0;
+            for (byte[] part : parts) {
+                length += part.length;
+            }
+            if (length <= maxBufferedBytes) {
+                byte[] body = new byte[(int) length];
+                int offset = 0;
+                for (byte[] part : parts) {
+                    System.arraycopy(part, 0, body, offset, part.length);
+                    offset += part.length;
+                }
+                parts = List.of(body);
+            }
+            String etag = "\"" + instance + "-" + versions.incrementAndGet() + "\"";
+            feed = new Feed(etag, lastModified, length, members.size(), List.copyOf(parts));
+            return feed;
+        }
+    }
+}
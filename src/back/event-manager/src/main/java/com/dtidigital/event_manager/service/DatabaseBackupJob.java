@@ -0,0 +1,29 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.dto.BackupStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Job agendado que dispara o backup online do banco; o backup em si roda em segundo plano
+ * no {@link DatabaseBackupService}.
+ */
+@Component
+@ConditionalOnProperty(name = "events.backup.enabled", havingValue = "true", matchIfMissing = true)
+public class DatabaseBackupJob {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseBackupJob.class);
+
+    @Autowired
+    private DatabaseBackupService backupService;
+
+    @Scheduled(cron = "${events.backup.cron:0 30 2 * * *}")
+    public void scheduledBackup() {
+        BackupStatus status = backupService.startBackup();
+        log.info("Backup agendado iniciado: {}", status.file());
+    }
+}
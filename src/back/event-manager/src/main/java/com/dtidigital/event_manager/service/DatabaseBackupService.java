@@ -0,0 +1,411 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.dto.BackupStatus;
+import com.dtidigital.event_manager.enums.BackupState;
+import com.dtidigital.event_manager.exception.EventValidationException;
+import com.dtidigital.event_manager.repository.ShardedEventRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Backup online do banco SQLite com {@code VACUUM INTO}: a cópia é lida de um único snapshot
+ * consistente e, com o banco em modo WAL, não bloqueia as escritas enquanto roda (leitores e
+ * escritores não se bloqueiam no WAL). Roda em uma thread própria, um backup por vez, gravando
+ * num arquivo temporário que só é renomeado ao final; o progresso é o tamanho já gravado
+ * frente às páginas em uso do banco.
+ * <p>
+ * Com o sharding ligado, os eventos ficam nos arquivos dos shards; cada um é copiado no mesmo
+ * backup para a pasta {@code <backup>-shards}, ao lado do arquivo principal, que é gravado por
+ * último e só aparece na lista quando todos os shards foram copiados. Cada arquivo é um snapshot
+ * consistente de si mesmo, mas tirado em seguida ao anterior, não no mesmo instante.
+ */
+@Service
+public class DatabaseBackupService {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseBackupService.class);
+
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]*\\.db");
+    private static final Pattern BACKUP_STAMP = Pattern.compile("\\d{8}-\\d{6}\\.db");
+    private static final String PARTIAL_SUFFIX = ".part";
+    private static final String SHARDS_SUFFIX = "-shards";
+
+    @Autowired
+    private DataSource dataSource;
+
+    // Presente só com events.sharding.enabled=true
+    @Autowired(required = false)
+    private ShardedEventRepository shardedRepository;
+
+    // Vazio: pasta "backups" ao lado do arquivo do banco
+    @Value("${events.backup.directory:}")
+    private String directory;
+
+    @Value("${events.backup.keep:7}")
+    private int keep;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("event-backup").daemon().factory());
+    private volatile Run last;
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Inicia um backup em segundo plano; se já houver um em andamento, devolve o status dele.
+     */
+    public synchronized BackupStatus startBackup() {
+        if (last != null && last.state == BackupState.RUNNING) {
+            return last.status();
+        }
+        Path target;
+        try {
+            Path folder = backupDirectory();
+            Files.createDirectories(folder);
+            target = folder.resolve(prefix() + LocalDateTime.now().format(FILE_STAMP) + ".db");
+        } catch (IOException | SQLException e) {
+            throw new IllegalStateException("Não foi possível preparar o diretório de backup", e);
+        }
+        Run run = new Run(target, shardedRepository != null);
+        last = run;
+        executor.execute(() -> backup(run));
+        return run.status();
+    }
+
+    /**
+     * Status do backup em andamento ou do último executado; nulo se nenhum rodou desde a inicialização.
+     */
+    public BackupStatus getStatus() {
+        Run run = last;
+        return run == null ? null : run.status();
+    }
+
+    /**
+     * Backups concluídos, do mais recente ao mais antigo.
+     */
+    public List<String> listBackups() {
+        try {
+            return completedBackups().stream().map(path -> path.getFileName().toString()).toList();
+        } catch (IOException | SQLException e) {
+            throw new IllegalStateException("Não foi possível listar os backups", e);
+        }
+    }
+
+    /**
+     * Restaura um backup num arquivo novo do diretório de backup, sem tocar no banco em uso:
+     * confere a integridade do backup e o copia com {@code VACUUM INTO}. Para usar o arquivo,
+     * aponte {@code spring.datasource.url} para ele e reinicie a aplicação. Os shards do backup,
+     * se houver, vão para a pasta {@code <destino>-shards}, que passa a ser o
+     * {@code events.sharding.directory}.
+     *
+     * @return caminho do arquivo restaurado
+     */
+    public Path restore(String backupName, String targetName) {
+        if (!isValidName(backupName) || !isValidName(targetName)) {
+            throw new EventValidationException("Nomes de arquivo devem terminar em .db e conter só letras, números, '.', '_' e '-'");
+        }
+        try {
+            Path folder = backupDirectory();
+            Path source = folder.resolve(backupName);
+            Path target = folder.resolve(targetName);
+            if (!Files.isRegularFile(source)) {
+                throw new EventValidationException("Backup não encontrado: " + backupName);
+            }
+            Path sourceShards = shardsDirectory(source);
+            Path targetShards = shardsDirectory(target);
+            if (Files.exists(target) || Files.exists(targetShards)) {
+                throw new EventValidationException("O arquivo de destino já existe: " + targetName);
+            }
+
+            List<Path> shards = Files.isDirectory(sourceShards) ? shardFiles(sourceShards) : List.of();
+            // Confere tudo antes de copiar, para não deixar uma restauração pela metade
+            for (Path shard : shards) {
+                checkIntegrity(shard);
+            }
+            checkIntegrity(source);
+            if (!shards.isEmpty()) {
+                Files.createDirectories(targetShards);
+                for (Path shard : shards) {
+                    copy(shard, targetShards.resolve(shard.getFileName()));
+                }
+            }
+            copy(source, target);
+            log.info("Backup {} restaurado em {}", backupName, target);
+            return target;
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException("Falha ao restaurar o backup " + backupName, e);
+        }
+    }
+
+    private static void checkIntegrity(Path file) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + file.toAbsolutePath());
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("PRAGMA integrity_check")) {
+            String check = result.next() ? result.getString(1) : null;
+            if (!"ok".equals(check)) {
+                throw new EventValidationException("Backup corrompido (" + file.getFileName() + "): " + check);
+            }
+        }
+    }
+
+    private static void copy(Path source, Path target) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + source.toAbsolutePath());
+             Statement statement = connection.createStatement()) {
+            statement.execute(vacuumInto(target));
+        }
+    }
+
+    private void backup(Run run) {
+        Path partial = run.partial;
+        try {
+            List<DataSource> shards = shardedRepository == null ? List.of() : shardedRepository.shardDataSources();
+            long total = usedBytes(dataSource);
+            for (DataSource shard : shards) {
+                total += usedBytes(shard);
+            }
+            run.totalBytes = total;
+            Files.deleteIfExists(partial);
+            if (run.shardsTarget != null) {
+                deleteRecursively(run.shardsPartial);
+                Files.createDirectories(run.shardsPartial);
+                for (DataSource shard : shards) {
+                    copy(shard, run.shardsPartial.resolve(databaseFile(shard).getFileName()));
+                }
+                Files.move(run.shardsPartial, run.shardsTarget, StandardCopyOption.ATOMIC_MOVE);
+            }
+            // O principal por último: um backup listado já tem todos os shards ao lado
+            copy(dataSource, partial);
+            Files.move(partial, run.target, StandardCopyOption.ATOMIC_MOVE);
+            run.finish(BackupState.COMPLETED, null);
+            log.info("Backup {} concluído ({} bytes)", run.target.getFileName(), run.bytesWritten);
+            purgeOldBackups();
+        } catch (Exception e) {
+            run.finish(BackupState.FAILED, e.getMessage());
+            log.error("Falha no backup {}", run.target.getFileName(), e);
+            try {
+                Files.deleteIfExists(partial);
+                if (run.shardsTarget != null) {
+                    deleteRecursively(run.shardsPartial);
+                    if (!Files.exists(run.target)) {
+                        deleteRecursively(run.shardsTarget);
+                    }
+                }
+            } catch (IOException ignored) {
+                // Sobra só um .part, que o próximo backup com o mesmo nome sobrescreve
+            }
+        }
+    }
+
+    private void purgeOldBackups() throws IOException, SQLException {
+        List<Path> backups = completedBackups();
+        for (Path old : backups.subList(Math.min(Math.max(1, keep), backups.size()), backups.size())) {
+            Files.deleteIfExists(old);
+            deleteRecursively(shardsDirectory(old));
+            log.info("Backup antigo removido: {}", old.getFileName());
+        }
+    }
+
+    // Nomes com data e hora ordenam cronologicamente
+    private List<Path> completedBackups() throws IOException, SQLException {
+        Path folder = backupDirectory();
+        if (!Files.isDirectory(folder)) {
+            return List.of();
+        }
+        String prefix = prefix();
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        // Só os gerados aqui; arquivos restaurados na mesma pasta não entram na retenção
+                        return name.startsWith(prefix) && BACKUP_STAMP.matcher(name.substring(prefix.length())).matches();
+                    })
+                    .sorted((a, b) -> b.getFileName().compareTo(a.getFileName()))
+                    .toList();
+        }
+    }
+
+    private Path backupDirectory() throws SQLException {
+        if (directory != null && !directory.isBlank()) {
+            return Path.of(directory);
+        }
+        Path database = databaseFile();
+        return database.toAbsolutePath().resolveSibling("backups");
+    }
+
+    // Nome do banco sem extensão, ex.: "event-manager-"
+    private String prefix() throws SQLException {
+        String name = databaseFile().getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return (dot > 0 ? name.substring(0, dot) : name) + "-";
+    }
+
+    private Path databaseFile() throws SQLException {
+        return databaseFile(dataSource);
+    }
+
+    private static Path databaseFile(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("PRAGMA database_list")) {
+            while (result.next()) {
+                String file = result.getString("file");
+                if ("main".equals(result.getString("name")) && file != null && !file.isEmpty()) {
+                    return Path.of(file);
+                }
+            }
+        }
+        throw new IllegalStateException("O banco principal não é um arquivo; não há o que copiar");
+    }
+
+    private static long usedBytes(DataSource source) throws SQLException {
+        try (Connection connection = source.getConnection();
+             Statement statement = connection.createStatement()) {
+            return usedBytes(statement);
+        }
+    }
+
+    private static long usedBytes(Statement statement) throws SQLException {
+        long pages = pragma(statement, "page_count") - pragma(statement, "freelist_count");
+        return pages * pragma(statement, "page_size");
+    }
+
+    private static long pragma(Statement statement, String name) throws SQLException {
+        try (ResultSet result = statement.executeQuery("PRAGMA " + name)) {
+            return result.next() ? result.getLong(1) : 0;
+        }
+    }
+
+    private static void copy(DataSource source, Path target) throws SQLException {
+        try (Connection connection = source.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(vacuumInto(target));
+        }
+    }
+
+    // Pasta com os shards de um backup ou de um arquivo restaurado, ex.: "event-manager-20250101-000000-shards"
+    private static Path shardsDirectory(Path database) {
+        String name = database.getFileName().toString();
+        return database.resolveSibling(name.substring(0, name.length() - ".db".length()) + SHARDS_SUFFIX);
+    }
+
+    private static List<Path> shardFiles(Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".db")).sorted().toList();
+        }
+    }
+
+    private static void deleteRecursively(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static String vacuumInto(Path target) {
+        return "VACUUM INTO '" + target.toAbsolutePath().toString().replace("'", "''") + "'";
+    }
+
+    private static boolean isValidName(String name) {
+        return name != null && FILE_NAME.matcher(name).matches();
+    }
+
+    /**
+     * Estado de um backup; os campos mudam na thread de backup e são lidos pelo status.
+     */
+    private static final class Run {
+
+        final Path target;
+        final Path partial;
+        // Nulos sem sharding
+        final Path shardsTarget;
+        final Path shardsPartial;
+        final LocalDateTime startedAt = LocalDateTime.now();
+        volatile BackupState state = BackupState.RUNNING;
+        volatile LocalDateTime finishedAt;
+        volatile long totalBytes;
+        volatile long bytesWritten;
+        volatile String error;
+
+        Run(Path target, boolean sharded) {
+            this.target = target;
+            this.partial = target.resolveSibling(target.getFileName() + PARTIAL_SUFFIX);
+            this.shardsTarget = sharded ? shardsDirectory(target) : null;
+            this.shardsPartial = sharded ? shardsTarget.resolveSibling(shardsTarget.getFileName() + PARTIAL_SUFFIX) : null;
+        }
+
+        void finish(BackupState finalState, String message) {
+            if (finalState == BackupState.COMPLETED) {
+                bytesWritten = sizeOf(target) + sizeOf(shardsTarget);
+            }
+            error = message;
+            finishedAt = LocalDateTime.now();
+            state = finalState;
+        }
+
+        BackupStatus status() {
+            BackupState current = state;
+            long written = current == BackupState.RUNNING
+                    ? sizeOf(partial) + sizeOf(shardsPartial) + sizeOf(shardsTarget) : bytesWritten;
+            long total = totalBytes;
+            int percent;
+            if (current == BackupState.COMPLETED) {
+                percent = 100;
+            } else if (total > 0) {
+                // O VACUUM compacta as páginas, então a cópia pode acabar menor que o estimado
+                percent = (int) Math.min(99, written * 100 / total);
+            } else {
+                percent = 0;
+            }
+            return new BackupStatus(target.getFileName().toString(), current, startedAt, finishedAt,
+                    written, total, percent, error);
+        }
+
+        // Arquivo ou pasta de shards; nulo ou inexistente conta zero
+        private static long sizeOf(Path path) {
+            if (path == null || !Files.exists(path)) {
+                return 0;
+            }
+            try (Stream<Path> files = Files.walk(path)) {
+                return files.filter(Files::isRegularFile).mapToLong(file -> {
+                    try {
+                        return Files.size(file);
+                    } catch (IOException e) {
+                        // Removido durante a contagem (o .part renomeado)
+                        return 0;
+                    }
+                }).sum();
+            } catch (IOException | UncheckedIOException e) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.dtidigital.event_manager.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Job agendado que tira da tabela principal os eventos que já aconteceram,
+ * mantendo a tabela "quente" e seus índices pequenos.
+ */
+@Component
+@ConditionalOnProperty(name = "events.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class EventArchiveJob {
+
+    private static final Logger log = LoggerFactory.getLogger(EventArchiveJob.class);
+
+    @Autowired
+    private EventArchiveService archiveService;
+
+    @Value("${events.archive.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${events.archive.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${events.archive.cron:0 0 3 * * *}")
+    public int archivePastEvents() {
+        LocalDate cutoff = LocalDate.now().minusDays(retentionDays);
+        int total = 0;
+        int moved;
+        do {
+            moved = archiveService.archiveBatch(cutoff, batchSize);
+            total += moved;
+        } while (moved == batchSize);
+
+        if (total > 0) {
+            log.info("{} eventos anteriores a {} foram arquivados", total, cutoff);
+        }
+        return total;
+    }
+}
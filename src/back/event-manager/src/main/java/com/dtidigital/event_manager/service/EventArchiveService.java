@@ -0,0 +1,89 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.enums.EventChangeType;
+import com.dtidigital.event_manager.model.ArchivedEvent;
+import com.dtidigital.event_manager.model.Event;
+import com.dtidigital.event_manager.repository.IArchivedEventRepository;
+import com.dtidigital.event_manager.repository.IEventRepository;
+import com.dtidigital.event_manager.repository.ShardedEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class EventArchiveService {
+
+    @Autowired
+    private IEventRepository eventRepository;
+
+    @Autowired
+    private IArchivedEventRepository archivedEventRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Presente apenas com events.sharding.enabled=true
+    @Autowired(required = false)
+    private ShardedEventRepository shardedRepository;
+
+    /**
+     * Move um lote de eventos anteriores a {@code cutoff} para a tabela de arquivo.
+     * Cada lote roda na sua própria transação para não segurar o lock de escrita do SQLite.
+     * Com shards, os eventos só são apagados dos shards depois do commit do arquivo; se isso
+     * falhar, o próximo lote os encontra de novo e não os arquiva em duplicidade.
+     *
+     * @return quantidade de eventos movidos
+     */
+    @Transactional
+    public int archiveBatch(LocalDate cutoff, int batchSize) {
+        if (shardedRepository != null) {
+            return archiveShardedBatch(cutoff, batchSize);
+        }
+        List<Event> batch = eventRepository.findByEventDateBefore(cutoff, PageRequest.of(0, batchSize, Sort.by("id")));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        archivedEventRepository.saveAll(batch.stream().map(ArchivedEvent::from).toList());
+        eventRepository.deleteAllInBatch(batch);
+        publishArchived(batch);
+        return batch.size();
+    }
+
+    private int archiveShardedBatch(LocalDate cutoff, int batchSize) {
+        List<Event> batch = shardedRepository.findByEventDateBefore(cutoff, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = batch.stream().map(Event::getId).toList();
+        Set<Long> alreadyArchived = archivedEventRepository.findAllById(ids).stream()
+                .map(ArchivedEvent::getId)
+                .collect(Collectors.toSet());
+        List<Event> pending = batch.stream().filter(event -> !alreadyArchived.contains(event.getId())).toList();
+        archivedEventRepository.saveAll(pending.stream().map(ArchivedEvent::from).toList());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                shardedRepository.deleteAllById(ids);
+            }
+        });
+        publishArchived(pending);
+        return batch.size();
+    }
+
+    private void publishArchived(List<Event> batch) {
+        batch.forEach(event -> eventPublisher.publishEvent(
+                new EventChange(EventChangeType.ARCHIVED, event.getId(), event, null)));
+    }
+}
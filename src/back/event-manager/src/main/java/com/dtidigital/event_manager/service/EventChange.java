@@ -0,0 +1,19 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.enums.EventChangeType;
+import com.dtidigital.event_manager.model.Event;
+
+/**
+ * Publicado (via ApplicationEventPublisher) a cada escrita em eventos, para que caches
+ * e índices em memória se atualizem sem acoplar o EventService a eles.
+ *
+ * @param before estado anterior, quando conhecido (nulo em CREATED)
+ * @param after  novo estado (nulo em DELETED e ARCHIVED)
+ * @param author quem fez a alteração, quando informado (cabeçalho X-User)
+ */
+public record EventChange(EventChangeType type, Long eventId, Event before, Event after, String author) {
+
+    public EventChange(EventChangeType type, Long eventId, Event before, Event after) {
+        this(type, eventId, before, after, null);
+    }
+}
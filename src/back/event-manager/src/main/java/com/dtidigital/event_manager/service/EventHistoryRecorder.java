@@ -0,0 +1,219 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.enums.EventChangeType;
+import com.dtidigital.event_manager.model.Event;
+import com.dtidigital.event_manager.model.EventRevision;
+import com.dtidigital.event_manager.repository.IEventRevisionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grava o histórico de alterações dos eventos ({@link EventRevision}) fora do caminho da escrita:
+ * após o commit, a mudança só entra numa fila em memória; uma única thread calcula as diferenças
+ * campo a campo e grava as revisões em lotes, uma transação por lote. Com uma só thread gravando,
+ * a numeração das revisões de cada evento não tem concorrência.
+ * Se a fila encher, quem escreve espera a thread esvaziá-la, para não perder histórico.
+ */
+@Component
+@ConditionalOnProperty(name = "events.history.enabled", havingValue = "true", matchIfMissing = true)
+public class EventHistoryRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(EventHistoryRecorder.class);
+
+    // Campos do evento acompanhados no histórico, com os nomes do JSON da API
+    static final List<String> FIELDS = List.of("name", "eventDate", "startTime", "endTime", "location",
+            "organizer", "capacity", "description", "price", "category", "latitude", "longitude");
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Autowired
+    private IEventRevisionRepository revisionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${events.history.batch-size:256}")
+    private int batchSize;
+
+    @Value("${events.history.max-delay-ms:200}")
+    private long maxDelayMs;
+
+    @Value("${events.history.queue-capacity:100000}")
+    private int queueCapacity;
+
+    private BlockingQueue<PendingRevision> queue;
+    private TransactionTemplate transactionTemplate;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        running = true;
+        writer = new Thread(this::run, "event-history-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    // Só depois do commit: escritas desfeitas não entram no histórico
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        PendingRevision pending = new PendingRevision(change, LocalDateTime.now());
+        if (queue.offer(pending)) {
+            return;
+        }
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Revisão do evento {} descartada: fila do histórico cheia", change.eventId());
+        }
+    }
+
+    private void run() {
+        List<PendingRevision> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingRevision first = queue.poll(maxDelayMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+            } catch (InterruptedException e) {
+                // Encerrando: grava o que sobrou na fila antes de sair
+                queue.drainTo(batch);
+            }
+            if (!batch.isEmpty()) {
+                writeWithRetry(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeWithRetry(List<PendingRevision> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                write(batch);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    log.error("{} revisões descartadas após {} tentativas", batch.size(), attempt, e);
+                    return;
+                }
+                log.warn("Falha ao gravar {} revisões (tentativa {}), tentando de novo", batch.size(), attempt, e);
+                try {
+                    Thread.sleep(100L * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * Numera e grava as revisões do lote, na ordem em que as mudanças foram confirmadas.
+     */
+    void write(List<PendingRevision> batch) {
+        List<Long> eventIds = batch.stream().map(pending -> pending.change().eventId()).distinct().toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, Integer> lastRevision = new HashMap<>();
+            for (Object[] row : revisionRepository.findLastRevisions(eventIds)) {
+                lastRevision.put((Long) row[0], ((Number) row[1]).intValue());
+            }
+
+            List<EventRevision> revisions = new ArrayList<>(batch.size());
+            for (PendingRevision pending : batch) {
+                EventChange change = pending.change();
+                Integer previous = lastRevision.get(change.eventId());
+                if (previous != null && change.type() == EventChangeType.CREATED) {
+                    // Só em bancos de antes do AUTOINCREMENT; a revisão CREATED começa outra cadeia
+                    log.warn("ID {} reaproveitado por um evento novo; histórico continua na revisão {}",
+                            change.eventId(), previous + 1);
+                }
+                int revision = previous == null ? 1 : previous + 1;
+                lastRevision.put(change.eventId(), revision);
+                revisions.add(new EventRevision(change.eventId(), revision, change.type(), change.author(),
+                        pending.changedAt(), changes(change, previous == null)));
+            }
+            revisionRepository.saveAll(revisions);
+        });
+    }
+
+    /**
+     * Diferenças campo a campo em JSON, {@code {"campo": [anterior, novo]}}. Com {@code full}
+     * (primeira revisão do evento) inclui também os campos que não mudaram, para que o histórico
+     * tenha o estado completo a partir do qual reconstruir o evento.
+     */
+    String changes(EventChange change, boolean full) {
+        Event before = change.before();
+        // Arquivar não altera o evento; a revisão só registra o momento (e o estado, se for a primeira)
+        Event after = change.type() == EventChangeType.ARCHIVED ? before : change.after();
+        JsonNode beforeNode = before == null ? null : objectMapper.valueToTree(before);
+        JsonNode afterNode = after == null ? null : objectMapper.valueToTree(after);
+
+        ObjectNode diff = objectMapper.createObjectNode();
+        if (change.type() == EventChangeType.DELETED) {
+            return diff.toString();
+        }
+        for (String field : FIELDS) {
+            JsonNode previous = value(beforeNode, field);
+            JsonNode current = value(afterNode, field);
+            boolean changed = !sameValue(previous, current);
+            if (changed || (full && !current.isNull())) {
+                diff.putArray(field).add(previous).add(current);
+            }
+        }
+        return diff.toString();
+    }
+
+    private static JsonNode value(JsonNode event, String field) {
+        JsonNode value = event == null ? null : event.get(field);
+        return value == null ? NullNode.getInstance() : value;
+    }
+
+    // Números comparados pelo valor: o preço lido do banco pode vir com outra escala (100.0 e 100.00)
+    private static boolean sameValue(JsonNode a, JsonNode b) {
+        if (a.isNumber() && b.isNumber()) {
+            return a.decimalValue().compareTo(b.decimalValue()) == 0;
+        }
+        return a.equals(b);
+    }
+
+    record PendingRevision(EventChange change, LocalDateTime changedAt) {
+    }
+}
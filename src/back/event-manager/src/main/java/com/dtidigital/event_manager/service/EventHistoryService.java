@@ -0,0 +1,78 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.enums.EventChangeType;
+import com.dtidigital.event_manager.exception.EventNotFoundException;
+import com.dtidigital.event_manager.model.Event;
+import com.dtidigital.event_manager.model.EventRevision;
+import com.dtidigital.event_manager.repository.IEventRevisionRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consulta ao histórico gravado pelo {@link EventHistoryRecorder}. As buscas filtram por evento
+ * e ordenam por revisão, então usam o índice (event_id, revision).
+ */
+@Service
+public class EventHistoryService {
+
+    @Autowired
+    private IEventRevisionRepository revisionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public List<EventRevision> getHistory(Long eventId) {
+        return revisionRepository.findByEventIdOrderByRevisionAsc(eventId);
+    }
+
+    /**
+     * Reconstrói o evento como estava no instante {@code at}, aplicando em ordem as revisões
+     * confirmadas até ali. A gravação do histórico é assíncrona, então as últimas alterações
+     * podem levar alguns milissegundos para aparecer.
+     */
+    public Event getEventAsOf(Long eventId, LocalDateTime at) {
+        ObjectNode state = null;
+        for (EventRevision revision : revisionRepository.findByEventIdAndChangedAtLessThanEqualOrderByRevisionAsc(eventId, at)) {
+            if (revision.getType() == EventChangeType.DELETED) {
+                state = null;
+                continue;
+            }
+            // CREATED começa outro estado: um ID reaproveitado não herda campos do evento arquivado antes dele
+            if (state == null || revision.getType() == EventChangeType.CREATED) {
+                state = objectMapper.createObjectNode();
+            }
+            Iterator<Map.Entry<String, JsonNode>> fields = readChanges(revision).fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                state.set(field.getKey(), field.getValue().get(1));
+            }
+        }
+        if (state == null) {
+            throw new EventNotFoundException("Sem histórico do evento " + eventId + " em " + at);
+        }
+        state.put("id", eventId);
+        try {
+            return objectMapper.treeToValue(state, Event.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Histórico inválido para o evento " + eventId, e);
+        }
+    }
+
+    private JsonNode readChanges(EventRevision revision) {
+        try {
+            return objectMapper.readTree(revision.getChanges());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Revisão " + revision.getRevision() + " do evento "
+                    + revision.getEventId() + " ilegível", e);
+        }
+    }
+}
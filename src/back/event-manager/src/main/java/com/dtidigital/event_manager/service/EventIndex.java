@@ -0,0 +1,21 @@
+package com.dtidigital.event_manager.service;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Índice em memória de uma projeção dos eventos, carregado do banco e mantido em sincronia pelos
+ * {@link EventChange} publicados pelo {@link EventService}.
+ */
+public interface EventIndex<T> {
+
+    /**
+     * Recarrega o índice com o que {@code loader} ler do banco. Escritas feitas durante a leitura
+     * não se perdem: esperam a carga ou são reaplicadas sobre ela.
+     */
+    void rebuild(Supplier<? extends Collection<T>> loader);
+
+    void put(T row);
+
+    void remove(long id);
+}
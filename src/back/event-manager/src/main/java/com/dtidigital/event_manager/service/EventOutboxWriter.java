@@ -0,0 +1,38 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.enums.EventChangeType;
+import com.dtidigital.event_manager.model.EventOutboxMessage;
+import com.dtidigital.event_manager.repository.IEventOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Grava no outbox cada criação, alteração ou remoção de evento, antes do commit da própria
+ * escrita: a mudança e a notificação são confirmadas (ou desfeitas) juntas. A entrega fica
+ * com o {@link WebhookDispatcher}, fora da requisição.
+ * Arquivamentos não são notificados.
+ */
+@Component
+@ConditionalOnProperty(name = "events.webhooks.enabled", havingValue = "true", matchIfMissing = true)
+public class EventOutboxWriter {
+
+    @Autowired
+    private IEventOutboxRepository outboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onEventChange(EventChange change) throws JsonProcessingException {
+        if (change.type() == EventChangeType.ARCHIVED) {
+            return;
+        }
+        String payload = change.after() == null ? null : objectMapper.writeValueAsString(change.after());
+        outboxRepository.save(new EventOutboxMessage(change.type(), change.eventId(), payload));
+    }
+}
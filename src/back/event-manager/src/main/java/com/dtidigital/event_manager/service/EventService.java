@@ -1,37 +1,167 @@
 package com.dtidigital.event_manager.service;
 
+import com.dtidigital.event_manager.dto.EventSummary;
+import com.dtidigital.event_manager.dto.Suggestion;
+import com.dtidigital.event_manager.enums.EventChangeType;
+import com.dtidigital.event_manager.enums.SuggestField;
+import com.dtidigital.event_manager.exception.EventIndexNotReadyException;
 import com.dtidigital.event_manager.exception.EventNotFoundException;
+import com.dtidigital.event_manager.exception.EventValidationException;
+import com.dtidigital.event_manager.model.ArchivedEvent;
 import com.dtidigital.event_manager.model.Event;
 import com.dtidigital.event_manager.enums.EventCategory;
+import com.dtidigital.event_manager.repository.IArchivedEventRepository;
 import com.dtidigital.event_manager.repository.IEventRepository;
+import com.dtidigital.event_manager.repository.ShardedEventRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 public class EventService {
     
+    private static final int MAX_GEO_RESULTS = 1000;
+    
+    // Não há autenticação: o cliente se identifica neste cabeçalho para o histórico de alterações
+    public static final String AUTHOR_HEADER = "X-User";
+    private static final int MAX_AUTHOR_LENGTH = 100;
+    
     @Autowired
     private IEventRepository eventRepository;
     
+    @Autowired
+    private IArchivedEventRepository archivedEventRepository;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired(required = false)
+    private PlatformTransactionManager transactionManager;
+    
+    // Presente apenas com events.sharding.enabled=true: os eventos ficam nos shards e não na tabela principal
+    @Autowired(required = false)
+    private ShardedEventRepository shardedRepository;
+    
+    // Presente apenas com events.write.group-commit.enabled=true
+    @Autowired(required = false)
+    private EventWriteBatcher writeBatcher;
+    
+    // Presentes apenas com events.geo.enabled=true (padrão)
+    @Autowired(required = false)
+    private Geocoder geocoder;
+    
+    @Autowired(required = false)
+    private EventSpatialIndex spatialIndex;
+    
+    // Presente apenas com events.suggest.enabled=true (padrão)
+    @Autowired(required = false)
+    private EventSuggester suggester;
+    
+    // Presente apenas com events.similar.enabled=true (padrão)
+    @Autowired(required = false)
+    private EventSimilarityIndex similarityIndex;
+    
     public List<Event> getAllEvents() {
-        return eventRepository.findAll();
+        return sharded() ? shardedRepository.findAll() : eventRepository.findAll();
     }
     
     public Optional<Event> getEventById(Long id) {
-        return eventRepository.findById(id);
+        return sharded() ? shardedRepository.findById(id) : eventRepository.findById(id);
+    }
+    
+    private boolean sharded() {
+        return shardedRepository != null;
     }
     
     public Event saveEvent(Event event) {
-        return eventRepository.save(event);
+        String author = currentAuthor();
+        if (!batched()) {
+            return inTransaction(() -> doSaveEvent(event, author));
+        }
+        Long requestedId = event.getId();
+        return writeBatcher.execute(() -> {
+            // Um lote desfeito pode ter deixado no objeto o ID gerado pelo INSERT
+            event.setId(requestedId);
+            return doSaveEvent(event, author);
+        });
     }
     
     public Event updateEvent(Long id, Event eventDetails) {
-        Event event = eventRepository.findById(id)
+        String author = currentAuthor();
+        if (!batched()) {
+            return inTransaction(() -> doUpdateEvent(id, eventDetails, author));
+        }
+        return writeBatcher.execute(() -> doUpdateEvent(id, eventDetails, author));
+    }
+    
+    public void deleteEvent(Long id) {
+        String author = currentAuthor();
+        if (!batched()) {
+            inTransaction(() -> {
+                doDeleteEvent(id, author);
+                return null;
+            });
+            return;
+        }
+        writeBatcher.execute(() -> {
+            doDeleteEvent(id, author);
+            return null;
+        });
+    }
+    
+    // Com shards não há group commit: o lote desfeito seria reexecutado, repetindo escritas já confirmadas nos shards
+    private boolean batched() {
+        return writeBatcher != null && !sharded();
+    }
+    
+    // Lido na thread da requisição, antes de a escrita ir para a fila do group commit
+    private static String currentAuthor() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        String author = attributes.getRequest().getHeader(AUTHOR_HEADER);
+        if (author == null || author.isBlank()) {
+            return null;
+        }
+        author = author.strip();
+        return author.length() > MAX_AUTHOR_LENGTH ? author.substring(0, MAX_AUTHOR_LENGTH) : author;
+    }
+    
+    // A escrita e o que os listeners gravam antes do commit (outbox de webhooks) entram numa só
+    // transação; com group commit o lote já roda dentro de uma. Com shards a escrita no shard é
+    // confirmada antes e fica de fora: se a transação principal falhar depois, o evento permanece gravado
+    private <T> T inTransaction(Supplier<T> operation) {
+        if (transactionManager == null) {
+            return operation.get();
+        }
+        return new TransactionTemplate(transactionManager).execute(status -> operation.get());
+    }
+    
+    private Event doSaveEvent(Event event, String author) {
+        geocode(event);
+        Event saved = sharded() ? shardedRepository.save(event) : eventRepository.save(event);
+        eventPublisher.publishEvent(new EventChange(EventChangeType.CREATED, saved.getId(), null, saved, author));
+        return saved;
+    }
+    
+    private Event doUpdateEvent(Long id, Event eventDetails, String author) {
+        Event event = getEventById(id)
             .orElseThrow(() -> new EventNotFoundException("Evento não encontrado com ID: " + id));
+        Event before = copyOf(event);
         
         event.setName(eventDetails.getName());
         event.setEventDate(eventDetails.getEventDate());
@@ -43,43 +173,260 @@ public class EventService {
         event.setDescription(eventDetails.getDescription());
         event.setPrice(eventDetails.getPrice());
         event.setCategory(eventDetails.getCategory());
+        event.setLatitude(eventDetails.getLatitude());
+        event.setLongitude(eventDetails.getLongitude());
+        if (geocoder != null && movedWithStaleCoordinates(before, event)) {
+            event.setLatitude(null);
+            event.setLongitude(null);
+        }
+        geocode(event);
         
-        return eventRepository.save(event);
+        Event saved = sharded() ? shardedRepository.save(event) : eventRepository.save(event);
+        eventPublisher.publishEvent(new EventChange(EventChangeType.UPDATED, id, before, saved, author));
+        return saved;
     }
     
-    public void deleteEvent(Long id) {
-        if (!eventRepository.existsById(id)) {
+    private void doDeleteEvent(Long id, String author) {
+        if (!exists(id)) {
             throw new EventNotFoundException("Evento não encontrado com ID: " + id);
         }
-        eventRepository.deleteById(id);
+        if (sharded()) {
+            shardedRepository.deleteById(id);
+        } else {
+            eventRepository.deleteById(id);
+        }
+        eventPublisher.publishEvent(new EventChange(EventChangeType.DELETED, id, null, null, author));
+    }
+    
+    private boolean exists(Long id) {
+        return sharded() ? shardedRepository.existsById(id) : eventRepository.existsById(id);
     }
     
-    // Métodos de busca adicionais
+    // A entidade é alterada no lugar; a cópia guarda o estado anterior para quem ouve o EventChange
+    private static Event copyOf(Event event) {
+        return new Event(event.getId(), event.getName(), event.getEventDate(), event.getStartTime(),
+                event.getEndTime(), event.getLocation(), event.getOrganizer(), event.getCapacity(),
+                event.getDescription(), event.getPrice(), event.getCategory(), event.getLatitude(),
+                event.getLongitude());
+    }
+    
+    // Um GET-modificar-PUT devolve as coordenadas antigas junto com o local novo: nesse caso elas
+    // não foram enviadas pelo cliente e o local novo é geocodificado de novo
+    private static boolean movedWithStaleCoordinates(Event before, Event event) {
+        return !Objects.equals(before.getLocation(), event.getLocation())
+                && Objects.equals(before.getLatitude(), event.getLatitude())
+                && Objects.equals(before.getLongitude(), event.getLongitude());
+    }
+    
+    // Coordenadas enviadas pelo cliente têm precedência sobre o geocoder
+    private void geocode(Event event) {
+        if (geocoder == null || (event.getLatitude() != null && event.getLongitude() != null)) {
+            return;
+        }
+        geocoder.geocode(event.getLocation()).ifPresent(point -> {
+            event.setLatitude(point.latitude());
+            event.setLongitude(point.longitude());
+        });
+    }
+    
+    // Métodos de busca adicionais; com shards, consultados em todos em paralelo
     public List<Event> getEventsByCategory(EventCategory category) {
-        return eventRepository.findByCategory(category);
+        return sharded() ? shardedRepository.findByCategory(category) : eventRepository.findByCategory(category);
     }
     
     public List<Event> getEventsByDateRange(LocalDate startDate, LocalDate endDate) {
-        return eventRepository.findByEventDateBetween(startDate, endDate);
+        return sharded()
+                ? shardedRepository.findByEventDateBetween(startDate, endDate)
+                : eventRepository.findByEventDateBetween(startDate, endDate);
     }
     
     public List<Event> getUpcomingEvents() {
-        return eventRepository.findByEventDateAfter(LocalDate.now());
+        return sharded()
+                ? shardedRepository.findByEventDateAfter(LocalDate.now())
+                : eventRepository.findByEventDateAfter(LocalDate.now());
     }
     
     public List<Event> getEventsByOrganizer(String organizer) {
-        return eventRepository.findByOrganizerContainingIgnoreCase(organizer);
+        return sharded()
+                ? shardedRepository.findByOrganizerContainingIgnoreCase(organizer)
+                : eventRepository.findByOrganizerContainingIgnoreCase(organizer);
     }
     
     public List<Event> searchEventsByName(String name) {
-        return eventRepository.findByNameContainingIgnoreCase(name);
+        return sharded()
+                ? shardedRepository.findByNameContainingIgnoreCase(name)
+                : eventRepository.findByNameContainingIgnoreCase(name);
     }
     
     public List<Event> searchEventsByNameOrId(String query) {
-        return eventRepository.findByNameOrId(query);
+        return sharded() ? shardedRepository.findByNameOrId(query) : eventRepository.findByNameOrId(query);
     }
     
     public List<Event> getUpcomingEventsByCategory(EventCategory category) {
-        return eventRepository.findUpcomingEventsByCategory(category, LocalDate.now());
+        return sharded()
+                ? shardedRepository.findUpcomingEventsByCategory(category, LocalDate.now())
+                : eventRepository.findUpcomingEventsByCategory(category, LocalDate.now());
+    }
+    
+    // Listagens resumidas (sem descrição e demais campos de detalhe)
+    public List<EventSummary> getEventSummaries() {
+        return sharded() ? shardedRepository.findAllSummaries() : eventRepository.findAllSummaries();
+    }
+    
+    public List<EventSummary> getEventSummariesByCategory(EventCategory category) {
+        return sharded()
+                ? shardedRepository.findSummariesByCategory(category)
+                : eventRepository.findSummariesByCategory(category);
+    }
+    
+    public List<EventSummary> getEventSummariesByDateRange(LocalDate startDate, LocalDate endDate) {
+        return sharded()
+                ? shardedRepository.findSummariesByDateRange(startDate, endDate)
+                : eventRepository.findSummariesByDateRange(startDate, endDate);
+    }
+    
+    // Busca geográfica: o índice espacial filtra e ordena, o banco só carrega os eventos encontrados
+    public List<Event> searchEventsNear(double latitude, double longitude, double radiusKm,
+                                        LocalDate startDate, LocalDate endDate, EventCategory category, int limit) {
+        validateLatitude(latitude);
+        validateLongitude(longitude);
+        if (!(radiusKm > 0)) {
+            throw new EventValidationException("O raio deve ser maior que zero");
+        }
+        return loadHits(requireSpatialIndex().searchRadius(latitude, longitude, radiusKm,
+                startDate, endDate, category, validateLimit(limit)));
+    }
+    
+    public List<Event> searchEventsInArea(double minLatitude, double minLongitude,
+                                          double maxLatitude, double maxLongitude,
+                                          LocalDate startDate, LocalDate endDate, EventCategory category, int limit) {
+        validateLatitude(minLatitude);
+        validateLatitude(maxLatitude);
+        validateLongitude(minLongitude);
+        validateLongitude(maxLongitude);
+        if (minLatitude > maxLatitude) {
+            throw new EventValidationException("minLat deve ser menor ou igual a maxLat");
+        }
+        return loadHits(requireSpatialIndex().searchBox(minLatitude, minLongitude, maxLatitude, maxLongitude,
+                startDate, endDate, category, validateLimit(limit)));
+    }
+    
+    private EventSpatialIndex requireSpatialIndex() {
+        if (spatialIndex == null) {
+            throw new EventValidationException("Busca geográfica desabilitada (events.geo.enabled=false)");
+        }
+        return spatialIndex;
+    }
+    
+    private static void validateLatitude(double latitude) {
+        if (!(latitude >= -90 && latitude <= 90)) {
+            throw new EventValidationException("Latitude deve estar entre -90 e 90");
+        }
+    }
+    
+    private static void validateLongitude(double longitude) {
+        if (!(longitude >= -180 && longitude <= 180)) {
+            throw new EventValidationException("Longitude deve estar entre -180 e 180");
+        }
+    }
+    
+    private static int validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_GEO_RESULTS) {
+            throw new EventValidationException("limit deve estar entre 1 e " + MAX_GEO_RESULTS);
+        }
+        return limit;
+    }
+    
+    private List<Event> loadHits(List<EventSpatialIndex.Hit> hits) {
+        return loadInOrder(hits.stream().map(EventSpatialIndex.Hit::id).toList());
+    }
+    
+    // Mantém a ordem do índice; eventos removidos entre a busca e a carga são ignorados
+    private List<Event> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Event> found = sharded() ? shardedRepository.findAllById(ids) : eventRepository.findAllById(ids);
+        Map<Long, Event> byId = found.stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        List<Event> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Event event = byId.get(id);
+            if (event != null) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+    
+    // Autocomplete respondido da memória, sem consultar o banco
+    public List<Suggestion> suggest(SuggestField field, String prefix, int limit) {
+        if (limit < 1 || limit > EventSuggester.MAX_SUGGESTIONS) {
+            throw new EventValidationException("limit deve estar entre 1 e " + EventSuggester.MAX_SUGGESTIONS);
+        }
+        if (suggester == null) {
+            throw new EventValidationException("Autocomplete desabilitado (events.suggest.enabled=false)");
+        }
+        return suggester.suggest(field, prefix, limit);
+    }
+    
+    // Eventos semelhantes lidos da tabela de vizinhos pré-calculada; o banco só carrega os encontrados
+    public List<Event> getSimilarEvents(Long id, int limit) {
+        if (similarityIndex == null) {
+            throw new EventValidationException("Eventos semelhantes desabilitados (events.similar.enabled=false)");
+        }
+        if (limit < 1 || limit > similarityIndex.neighbors()) {
+            throw new EventValidationException("limit deve estar entre 1 e " + similarityIndex.neighbors());
+        }
+        if (!exists(id)) {
+            throw new EventNotFoundException("Evento não encontrado com ID: " + id);
+        }
+        if (!similarityIndex.isReady()) {
+            throw new EventIndexNotReadyException("Índice de eventos semelhantes ainda em construção");
+        }
+        List<Long> ids = similarityIndex.similar(id, limit).stream().map(EventSimilarityIndex.Neighbor::id).toList();
+        return loadInOrder(ids);
+    }
+    
+    // Variantes que incluem eventos arquivados apenas quando solicitado
+    public List<Event> getAllEvents(boolean includeArchived) {
+        return withArchived(getAllEvents(), includeArchived, archivedEventRepository::findAll);
+    }
+    
+    public List<Event> getEventsByCategory(EventCategory category, boolean includeArchived) {
+        return withArchived(getEventsByCategory(category), includeArchived,
+                () -> archivedEventRepository.findByCategory(category));
+    }
+    
+    public List<Event> getEventsByDateRange(LocalDate startDate, LocalDate endDate, boolean includeArchived) {
+        return withArchived(getEventsByDateRange(startDate, endDate), includeArchived,
+                () -> archivedEventRepository.findByEventDateBetween(startDate, endDate));
+    }
+    
+    public List<Event> getEventsByOrganizer(String organizer, boolean includeArchived) {
+        return withArchived(getEventsByOrganizer(organizer), includeArchived,
+                () -> archivedEventRepository.findByOrganizerContainingIgnoreCase(organizer));
+    }
+    
+    public List<Event> searchEventsByName(String name, boolean includeArchived) {
+        return withArchived(searchEventsByName(name), includeArchived,
+                () -> archivedEventRepository.findByNameContainingIgnoreCase(name));
+    }
+    
+    public List<Event> searchEventsByNameOrId(String query, boolean includeArchived) {
+        return withArchived(searchEventsByNameOrId(query), includeArchived,
+                () -> archivedEventRepository.findByNameOrId(query));
+    }
+    
+    private List<Event> withArchived(List<Event> events, boolean includeArchived,
+                                     Supplier<List<ArchivedEvent>> archivedQuery) {
+        if (!includeArchived) {
+            return events;
+        }
+        List<ArchivedEvent> archived = archivedQuery.get();
+        List<Event> result = new ArrayList<>(archived.size() + events.size());
+        archived.forEach(a -> result.add(a.toEvent()));
+        result.addAll(events);
+        return result;
     }
 }
\ No newline at end of file
@@ -0,0 +1,818 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.dto.EventText;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Eventos semelhantes pré-calculados: para cada evento guarda os K vizinhos mais parecidos,
+ * então a consulta só copia uma lista. A semelhança combina o cosseno dos vetores TF-IDF de
+ * nome e descrição com bônus para mesma categoria, mesmo organizador e datas próximas.
+ * <p>
+ * A reconstrução calcula os vizinhos de todos os eventos em paralelo (fork-join) e troca o
+ * estado de uma vez; escritas feitas durante ela são reaplicadas no estado novo. Cada escrita
+ * recalcula só o evento alterado e oferece o resultado aos eventos que ele alcança; quem perde
+ * um vizinho (remoção ou queda de semelhança) é recalculado. Pesos IDF dos demais eventos só
+ * mudam na próxima reconstrução.
+ * <p>
+ * Cada termo contribui com no máximo {@code maxPostings} candidatos, os eventos em que ele mais
+ * pesa, e cada organizador com os {@code maxPostings} eventos dele de data mais próxima: o custo
+ * por evento fica limitado mesmo para termos e organizadores comuns, e a reconstrução cresce
+ * linearmente com o número de eventos.
+ */
+public class EventSimilarityIndex implements EventIndex<EventText> {
+
+    static final double TEXT_WEIGHT = 0.55;
+    static final double CATEGORY_WEIGHT = 0.15;
+    static final double ORGANIZER_WEIGHT = 0.15;
+    static final double DATE_WEIGHT = 0.15;
+    // Semelhança de datas cai para ~37% a cada 30 dias de distância
+    private static final double DATE_SCALE_DAYS = 30;
+
+    // Termos em mais que max(MIN_POSTINGS, maxTermRatio * eventos) eventos não geram candidatos
+    private static final int MIN_POSTINGS = 1_000;
+    private static final int SLOT_BITS = 32;
+    private static final int NAME_BOOST = 2;
+    private static final int FORK_THRESHOLD = 256;
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private static final Set<String> STOP_WORDS = Set.of("para", "com", "sem", "sobre", "entre", "pelo", "pela",
+            "pelos", "pelas", "dos", "das", "nos", "nas", "uma", "uns", "umas", "que", "por", "mais", "como",
+            "seu", "sua", "seus", "suas", "este", "esta", "the", "and", "for", "with");
+
+    /**
+     * Evento semelhante e sua pontuação, de 0 a 1.
+     */
+    public record Neighbor(long id, double score) {
+    }
+
+    private final int neighbors;
+    private final double maxTermRatio;
+    private final int maxPostings;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildMonitor = new Object();
+
+    private IndexState state = new IndexState();
+    // Escritas feitas durante uma reconstrução, para reaplicar no estado novo; nulo fora dela
+    private List<Object> pendingChanges;
+    // Verdadeiro depois da primeira reconstrução concluída
+    private volatile boolean ready;
+
+    public EventSimilarityIndex(int neighbors, double maxTermRatio, int maxPostings) {
+        if (neighbors < 1) {
+            throw new IllegalArgumentException("neighbors deve ser positivo");
+        }
+        if (maxPostings < 1) {
+            throw new IllegalArgumentException("maxPostings deve ser positivo");
+        }
+        this.neighbors = neighbors;
+        this.maxTermRatio = maxTermRatio;
+        this.maxPostings = maxPostings;
+    }
+
+    public int neighbors() {
+        return neighbors;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void rebuild(Collection<EventText> events) {
+        rebuild(() -> events);
+    }
+
+    // As escritas passam a ser registradas antes da leitura e são reaplicadas no estado novo
+    @Override
+    public void rebuild(Supplier<? extends Collection<EventText>> loader) {
+        synchronized (rebuildMonitor) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            IndexState fresh = new IndexState(true);
+            boolean built = false;
+            try {
+                Collection<EventText> events = loader.get();
+                Map<String, Integer> documentFrequency = new HashMap<>();
+                List<Tokens> tokenized = new ArrayList<>(events.size());
+                for (EventText event : events) {
+                    Tokens tokens = tokenize(event);
+                    tokenized.add(tokens);
+                    for (String term : tokens.counts.keySet()) {
+                        documentFrequency.merge(term, 1, Integer::sum);
+                    }
+                }
+                for (Tokens tokens : tokenized) {
+                    fresh.add(tokens, documentFrequency::get, tokenized.size());
+                }
+                fresh.sortPostings();
+                int capacity = fresh.slots.length;
+                ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(() -> new Scratch(capacity));
+                ForkJoinPool.commonPool().invoke(new NeighborTask(fresh, scratch, 0, fresh.slotCount));
+                fresh.linkAll();
+                built = true;
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    List<Object> replay = pendingChanges;
+                    pendingChanges = null;
+                    // Se a reconstrução falhou, o estado antigo (já com as escritas) continua valendo
+                    if (built) {
+                        state = fresh;
+                        ready = true;
+                    }
+                    for (Object change : built ? replay : List.of()) {
+                        if (change instanceof EventText event) {
+                            doPut(event);
+                        } else {
+                            doRemove((Long) change);
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void put(EventText event) {
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+            }
+            doPut(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.add(id);
+            }
+            doRemove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Até {@code limit} eventos mais semelhantes, do mais ao menos parecido; vazia se o evento não está no índice.
+     */
+    public List<Neighbor> similar(long id, int limit) {
+        lock.readLock().lock();
+        try {
+            Doc doc = state.docs.get(id);
+            if (doc == null) {
+                return List.of();
+            }
+            int count = Math.min(limit, doc.neighborCount);
+            List<Neighbor> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(new Neighbor(doc.neighborIds[i], doc.neighborScores[i]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void doPut(EventText event) {
+        IndexState s = state;
+        LongList affected = new LongList();
+        Doc old = s.docs.get(event.id());
+        if (old != null) {
+            affected.addAll(old.referencedBy);
+            s.remove(old);
+        }
+
+        Doc doc = s.add(tokenize(event), term -> s.documentFrequency(term) + 1, s.docs.size() + 1);
+        Scratch scratch = s.scratch();
+        TopK top = new TopK(neighbors);
+        int candidates = s.score(doc, scratch, postingLimit(s), maxPostings, top);
+        s.setNeighbors(doc, top);
+
+        // Oferece o evento novo a quem ele alcança; quem o tinha como vizinho é recalculado
+        for (int i = 0; i < candidates; i++) {
+            Doc other = s.slots[scratch.touched[i]];
+            if (!affected.contains(other.id)) {
+                s.offer(other, doc, scratch.scores[i]);
+            }
+        }
+        for (int i = 0; i < affected.size; i++) {
+            Doc other = s.docs.get(affected.values[i]);
+            if (other != null && other != doc) {
+                recompute(s, other);
+            }
+        }
+    }
+
+    private void doRemove(long id) {
+        IndexState s = state;
+        Doc old = s.docs.get(id);
+        if (old == null) {
+            return;
+        }
+        LongList affected = new LongList();
+        affected.addAll(old.referencedBy);
+        s.remove(old);
+        for (int i = 0; i < affected.size; i++) {
+            Doc other = s.docs.get(affected.values[i]);
+            if (other != null) {
+                recompute(s, other);
+            }
+        }
+    }
+
+    private void recompute(IndexState s, Doc doc) {
+        TopK top = new TopK(neighbors);
+        s.score(doc, s.scratch(), postingLimit(s), maxPostings, top);
+        s.setNeighbors(doc, top);
+    }
+
+    private int postingLimit(IndexState s) {
+        return Math.max(MIN_POSTINGS, (int) (maxTermRatio * s.docs.size()));
+    }
+
+    static Tokens tokenize(EventText event) {
+        Map<String, Integer> counts = new HashMap<>();
+        addTerms(counts, event.name(), NAME_BOOST);
+        addTerms(counts, event.description(), 1);
+        String organizer = event.organizer() == null ? null : TextNormalizer.normalize(event.organizer());
+        return new Tokens(event.id(), counts,
+                event.category() == null ? -1 : event.category().ordinal(),
+                organizer == null || organizer.isEmpty() ? null : organizer,
+                event.eventDate() == null ? NO_DATE : event.eventDate().toEpochDay());
+    }
+
+    private static void addTerms(Map<String, Integer> counts, String text, int weight) {
+        if (text == null) {
+            return;
+        }
+        for (String term : TextNormalizer.normalize(text).split(" ")) {
+            if (term.length() >= 3 && !STOP_WORDS.contains(term) && !isNumber(term)) {
+                counts.merge(term, weight, Integer::sum);
+            }
+        }
+    }
+
+    private static boolean isNumber(String term) {
+        for (int i = 0; i < term.length(); i++) {
+            if (term.charAt(i) < '0' || term.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Termos de um evento (frequência já com o peso do nome) e os demais atributos comparados.
+     */
+    record Tokens(long id, Map<String, Integer> counts, int category, String organizer, long day) {
+    }
+
+    @FunctionalInterface
+    private interface DocumentFrequency {
+        int of(String term);
+    }
+
+    /**
+     * Calcula os vizinhos de uma faixa de posições; faixas grandes são divididas entre as threads do pool.
+     */
+    private final class NeighborTask extends RecursiveAction {
+
+        private final IndexState s;
+        private final ThreadLocal<Scratch> scratch;
+        private final int from;
+        private final int to;
+
+        NeighborTask(IndexState s, ThreadLocal<Scratch> scratch, int from, int to) {
+            this.s = s;
+            this.scratch = scratch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > FORK_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new NeighborTask(s, scratch, from, middle), new NeighborTask(s, scratch, middle, to));
+                return;
+            }
+            // Um acumulador por thread do pool, reaproveitado entre as faixas que ela executa
+            Scratch threadScratch = scratch.get();
+            int limit = postingLimit(s);
+            for (int slot = from; slot < to; slot++) {
+                Doc doc = s.slots[slot];
+                if (doc != null) {
+                    TopK top = new TopK(neighbors);
+                    s.score(doc, threadScratch, limit, maxPostings, top);
+                    // Só a lista do próprio evento; as referências são ligadas depois, numa thread
+                    doc.setNeighbors(top);
+                }
+            }
+        }
+    }
+
+    /**
+     * Documentos, listas invertidas e tabela de vizinhos. Posições ("slots") indexam os arrays
+     * de acumulação; as liberadas por remoções são reaproveitadas.
+     */
+    private static final class IndexState {
+
+        final Map<Long, Doc> docs = new HashMap<>();
+        final Map<String, SortedSlots> postings = new HashMap<>();
+        final Map<String, SortedSlots> byOrganizer = new HashMap<>();
+        Doc[] slots = new Doc[64];
+        int slotCount;
+        final IntList freeSlots = new IntList();
+        private Scratch scratch;
+        // Na carga completa as listas são montadas fora de ordem e ordenadas uma vez no fim
+        private boolean bulk;
+
+        IndexState() {
+        }
+
+        IndexState(boolean bulk) {
+            this.bulk = bulk;
+        }
+
+        int documentFrequency(String term) {
+            SortedSlots list = postings.get(term);
+            return list == null ? 0 : list.size;
+        }
+
+        Doc add(Tokens tokens, DocumentFrequency frequency, int documents) {
+            int slot;
+            if (freeSlots.size > 0) {
+                slot = freeSlots.values[--freeSlots.size];
+            } else {
+                if (slotCount == slots.length) {
+                    slots = Arrays.copyOf(slots, slotCount * 2);
+                }
+                slot = slotCount++;
+            }
+
+            String[] terms = tokens.counts.keySet().toArray(String[]::new);
+            float[] weights = new float[terms.length];
+            double norm = 0;
+            for (int i = 0; i < terms.length; i++) {
+                double tf = 1 + Math.log(tokens.counts.get(terms[i]));
+                double idf = Math.log(1 + (double) documents / Math.max(1, frequency.of(terms[i])));
+                weights[i] = (float) (tf * idf);
+                norm += weights[i] * weights[i];
+            }
+            norm = Math.sqrt(norm);
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = (float) (weights[i] / norm);
+            }
+
+            Doc doc = new Doc(tokens.id, slot, terms, weights, tokens.category, tokens.organizer, tokens.day);
+            slots[slot] = doc;
+            docs.put(doc.id, doc);
+            for (int i = 0; i < terms.length; i++) {
+                add(postings.computeIfAbsent(terms[i], t -> new SortedSlots()), SortedSlots.byWeight(slot, weights[i]));
+            }
+            if (doc.organizer != null) {
+                add(byOrganizer.computeIfAbsent(doc.organizer, o -> new SortedSlots()), SortedSlots.byDay(slot, doc.day));
+            }
+            return doc;
+        }
+
+        private void add(SortedSlots list, long key) {
+            if (bulk) {
+                list.append(key);
+            } else {
+                list.insert(key);
+            }
+        }
+
+        void sortPostings() {
+            postings.values().forEach(SortedSlots::sort);
+            byOrganizer.values().forEach(SortedSlots::sort);
+            bulk = false;
+        }
+
+        void remove(Doc doc) {
+            for (int i = 0; i < doc.terms.length; i++) {
+                SortedSlots list = postings.get(doc.terms[i]);
+                list.remove(SortedSlots.byWeight(doc.slot, doc.weights[i]));
+                if (list.size == 0) {
+                    postings.remove(doc.terms[i]);
+                }
+            }
+            if (doc.organizer != null) {
+                SortedSlots list = byOrganizer.get(doc.organizer);
+                list.remove(SortedSlots.byDay(doc.slot, doc.day));
+                if (list.size == 0) {
+                    byOrganizer.remove(doc.organizer);
+                }
+            }
+            unlink(doc);
+            docs.remove(doc.id);
+            slots[doc.slot] = null;
+            freeSlots.add(doc.slot);
+        }
+
+        /**
+         * Pontua o documento contra os candidatos (eventos com algum termo ou o organizador em
+         * comum; de cada termo, só os {@code maxPostings} de maior peso, e do organizador os
+         * {@code maxPostings} de data mais próxima) e guarda os melhores em {@code top}. Deixa os candidatos e suas pontuações em {@code scratch.touched}/{@code scratch.scores}.
+         *
+         * @return quantidade de candidatos
+         */
+        int score(Doc doc, Scratch scratch, int postingLimit, int maxPostings, TopK top) {
+            float[] dot = scratch.dot;
+            boolean[] seen = scratch.seen;
+            int touched = 0;
+            for (int i = 0; i < doc.terms.length; i++) {
+                SortedSlots list = postings.get(doc.terms[i]);
+                if (list == null || list.size > postingLimit) {
+                    continue;
+                }
+                float weight = doc.weights[i];
+                int scanned = Math.min(list.size, maxPostings);
+                for (int j = 0; j < scanned; j++) {
+                    long key = list.keys[j];
+                    int slot = SortedSlots.slot(key);
+                    if (slot == doc.slot) {
+                        continue;
+                    }
+                    if (!seen[slot]) {
+                        seen[slot] = true;
+                        touched = scratch.touch(touched, slot);
+                    }
+                    dot[slot] += weight * SortedSlots.weight(key);
+                }
+            }
+            SortedSlots sameOrganizer = doc.organizer == null ? null : byOrganizer.get(doc.organizer);
+            if (sameOrganizer != null) {
+                int from = 0;
+                int to = sameOrganizer.size;
+                if (to > maxPostings) {
+                    // Cresce a partir do próprio evento, sempre para o lado de data mais próxima
+                    long[] keys = sameOrganizer.keys;
+                    long own = SortedSlots.byDay(doc.slot, doc.day);
+                    long day = SortedSlots.day(own);
+                    from = sameOrganizer.search(own);
+                    to = from + 1;
+                    while (to - from < maxPostings) {
+                        if (to == sameOrganizer.size
+                                || (from > 0 && day - SortedSlots.day(keys[from - 1]) <= SortedSlots.day(keys[to]) - day)) {
+                            from--;
+                        } else {
+                            to++;
+                        }
+                    }
+                }
+                for (int j = from; j < to; j++) {
+                    int slot = SortedSlots.slot(sameOrganizer.keys[j]);
+                    if (slot != doc.slot && !seen[slot]) {
+                        seen[slot] = true;
+                        touched = scratch.touch(touched, slot);
+                    }
+                }
+            }
+
+            for (int i = 0; i < touched; i++) {
+                int slot = scratch.touched[i];
+                Doc other = slots[slot];
+                double score = TEXT_WEIGHT * Math.min(1, dot[slot]);
+                if (doc.category >= 0 && doc.category == other.category) {
+                    score += CATEGORY_WEIGHT;
+                }
+                if (doc.organizer != null && doc.organizer.equals(other.organizer)) {
+                    score += ORGANIZER_WEIGHT;
+                }
+                if (doc.day != NO_DATE && other.day != NO_DATE) {
+                    score += DATE_WEIGHT * Math.exp(-Math.abs(doc.day - other.day) / DATE_SCALE_DAYS);
+                }
+                scratch.scores[i] = (float) score;
+                top.offer(other.id, (float) score);
+                dot[slot] = 0;
+                seen[slot] = false;
+            }
+            return touched;
+        }
+
+        // Acumuladores reaproveitados entre escritas (sempre sob o write lock)
+        Scratch scratch() {
+            if (scratch == null || scratch.dot.length < slots.length) {
+                scratch = new Scratch(slots.length);
+            }
+            return scratch;
+        }
+
+        void setNeighbors(Doc doc, TopK top) {
+            unlink(doc);
+            doc.setNeighbors(top);
+            link(doc);
+        }
+
+        /**
+         * Oferece {@code candidate} como vizinho de {@code doc}; se entrar, desloca o último da lista.
+         */
+        void offer(Doc doc, Doc candidate, float score) {
+            long evicted = doc.insert(candidate.id, score);
+            if (evicted == Doc.NOT_INSERTED) {
+                return;
+            }
+            candidate.referencedBy.add(doc.id);
+            if (evicted != Doc.NONE) {
+                Doc removed = docs.get(evicted);
+                if (removed != null) {
+                    removed.referencedBy.remove(doc.id);
+                }
+            }
+        }
+
+        void linkAll() {
+            for (Doc doc : docs.values()) {
+                link(doc);
+            }
+        }
+
+        private void link(Doc doc) {
+            for (int i = 0; i < doc.neighborCount; i++) {
+                Doc neighbor = docs.get(doc.neighborIds[i]);
+                if (neighbor != null) {
+                    neighbor.referencedBy.add(doc.id);
+                }
+            }
+        }
+
+        private void unlink(Doc doc) {
+            for (int i = 0; i < doc.neighborCount; i++) {
+                Doc neighbor = docs.get(doc.neighborIds[i]);
+                if (neighbor != null) {
+                    neighbor.referencedBy.remove(doc.id);
+                }
+            }
+        }
+    }
+
+    private static final class Doc {
+
+        static final long NOT_INSERTED = Long.MIN_VALUE;
+        static final long NONE = Long.MIN_VALUE + 1;
+
+        final long id;
+        final int slot;
+        final String[] terms;
+        final float[] weights;
+        final int category;
+        final String organizer;
+        final long day;
+        long[] neighborIds = new long[0];
+        float[] neighborScores = new float[0];
+        int neighborCount;
+        // Eventos que têm este entre os vizinhos
+        final LongList referencedBy = new LongList();
+
+        Doc(long id, int slot, String[] terms, float[] weights, int category, String organizer, long day) {
+            this.id = id;
+            this.slot = slot;
+            this.terms = terms;
+            this.weights = weights;
+            this.category = category;
+            this.organizer = organizer;
+            this.day = day;
+        }
+
+        void setNeighbors(TopK top) {
+            neighborIds = Arrays.copyOf(top.ids, top.ids.length);
+            neighborScores = Arrays.copyOf(top.scores, top.scores.length);
+            neighborCount = top.size;
+        }
+
+        /**
+         * Insere mantendo a ordem (pontuação decrescente, ID crescente no empate).
+         *
+         * @return o ID deslocado da lista cheia, {@link #NONE} se ninguém saiu ou
+         * {@link #NOT_INSERTED} se o candidato não entrou
+         */
+        long insert(long candidate, float score) {
+            int capacity = neighborIds.length;
+            if (capacity == 0) {
+                return NOT_INSERTED;
+            }
+            if (neighborCount == capacity && !TopK.before(score, candidate, neighborScores[capacity - 1], neighborIds[capacity - 1])) {
+                return NOT_INSERTED;
+            }
+            long evicted = neighborCount == capacity ? neighborIds[capacity - 1] : NONE;
+            int position = neighborCount == capacity ? capacity - 1 : neighborCount++;
+            while (position > 0 && TopK.before(score, candidate, neighborScores[position - 1], neighborIds[position - 1])) {
+                neighborIds[position] = neighborIds[position - 1];
+                neighborScores[position] = neighborScores[position - 1];
+                position--;
+            }
+            neighborIds[position] = candidate;
+            neighborScores[position] = score;
+            return evicted;
+        }
+    }
+
+    /**
+     * Os K melhores candidatos em ordem, por inserção num array pequeno.
+     */
+    private static final class TopK {
+
+        final long[] ids;
+        final float[] scores;
+        int size;
+
+        TopK(int capacity) {
+            ids = new long[capacity];
+            scores = new float[capacity];
+        }
+
+        void offer(long id, float score) {
+            if (size == ids.length && !before(score, id, scores[size - 1], ids[size - 1])) {
+                return;
+            }
+            int position = size == ids.length ? size - 1 : size++;
+            while (position > 0 && before(score, id, scores[position - 1], ids[position - 1])) {
+                ids[position] = ids[position - 1];
+                scores[position] = scores[position - 1];
+                position--;
+            }
+            ids[position] = id;
+            scores[position] = score;
+        }
+
+        static boolean before(float score, long id, float otherScore, long otherId) {
+            return score > otherScore || (score == otherScore && id < otherId);
+        }
+    }
+
+    private static final class Scratch {
+
+        final float[] dot;
+        final boolean[] seen;
+        int[] touched = new int[256];
+        float[] scores = new float[256];
+
+        Scratch(int capacity) {
+            dot = new float[capacity];
+            seen = new boolean[capacity];
+        }
+
+        int touch(int count, int slot) {
+            if (count == touched.length) {
+                touched = Arrays.copyOf(touched, count * 2);
+                scores = Arrays.copyOf(scores, count * 2);
+            }
+            touched[count] = slot;
+            return count + 1;
+        }
+    }
+
+    /**
+     * Posições ordenadas por uma chave de 64 bits: o critério nos 32 bits altos e a posição, que
+     * desempata, nos baixos. Termos ordenam por peso decrescente e organizadores por data.
+     */
+    private static final class SortedSlots {
+
+        long[] keys = new long[4];
+        int size;
+
+        // Pesos são positivos, então os bits do float crescem com o valor; o complemento inverte a ordem
+        static long byWeight(int slot, float weight) {
+            return ((long) (Integer.MAX_VALUE - Float.floatToIntBits(weight)) << SLOT_BITS) | slot;
+        }
+
+        // Eventos sem data ficam no começo
+        static long byDay(int slot, long day) {
+            return ((long) (day == NO_DATE ? Integer.MIN_VALUE : (int) day) << SLOT_BITS) | slot;
+        }
+
+        static int slot(long key) {
+            return (int) key;
+        }
+
+        static long day(long key) {
+            return key >> SLOT_BITS;
+        }
+
+        static float weight(long key) {
+            return Float.intBitsToFloat(Integer.MAX_VALUE - (int) (key >>> SLOT_BITS));
+        }
+
+        // Fora de ordem; sort() ordena depois
+        void append(long key) {
+            grow();
+            keys[size++] = key;
+        }
+
+        void insert(long key) {
+            grow();
+            int position = -(search(key) + 1);
+            System.arraycopy(keys, position, keys, position + 1, size - position);
+            keys[position] = key;
+            size++;
+        }
+
+        void remove(long key) {
+            int position = search(key);
+            if (position < 0) {
+                return;
+            }
+            size--;
+            System.arraycopy(keys, position + 1, keys, position, size - position);
+        }
+
+        void sort() {
+            Arrays.sort(keys, 0, size);
+        }
+
+        // Posição da chave, ou -(ponto de inserção) - 1 se não existe
+        int search(long key) {
+            return Arrays.binarySearch(keys, 0, size, key);
+        }
+
+        private void grow() {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+        }
+    }
+
+    private static final class IntList {
+
+        int[] values = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    private static final class LongList {
+
+        long[] values = new long[2];
+        int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(LongList other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        boolean contains(long value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void remove(long value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    values[i] = values[--size];
+                    return;
+                }
+            }
+        }
+    }
+}
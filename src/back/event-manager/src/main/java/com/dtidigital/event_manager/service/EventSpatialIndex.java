@@ -0,0 +1,320 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.dto.EventLocation;
+import com.dtidigital.event_manager.enums.EventCategory;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Índice espacial em memória (grade regular de latitude/longitude) dos eventos com coordenadas.
+ * Cada célula guarda seus eventos em arrays primitivos, então uma busca visita só as células
+ * que cruzam a área pedida e filtra data e categoria sem tocar no banco.
+ */
+public class EventSpatialIndex implements EventIndex<EventLocation> {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.toRadians(1) * EARTH_RADIUS_KM;
+
+    /**
+     * Evento encontrado; {@code distanceKm} é zero nas buscas por retângulo.
+     */
+    public record Hit(long id, double distanceKm) {
+    }
+
+    private final double cellDegrees;
+    private final int columns;
+    private final int rows;
+
+    private final Map<Long, Cell> cells = new HashMap<>();
+    private final Map<Long, Long> cellById = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public EventSpatialIndex(double cellDegrees) {
+        if (!(cellDegrees > 0) || cellDegrees > 90) {
+            throw new IllegalArgumentException("cellDegrees deve estar entre 0 e 90");
+        }
+        this.cellDegrees = cellDegrees;
+        this.columns = (int) Math.ceil(360 / cellDegrees);
+        this.rows = (int) Math.ceil(180 / cellDegrees);
+    }
+
+    public void rebuild(Collection<EventLocation> locations) {
+        rebuild(() -> locations);
+    }
+
+    // Lê o banco com o write lock: escritas concorrentes esperam a carga terminar
+    @Override
+    public void rebuild(Supplier<? extends Collection<EventLocation>> loader) {
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            cellById.clear();
+            loader.get().forEach(this::doPut);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Insere ou move o evento; eventos sem coordenadas são apenas removidos.
+     */
+    @Override
+    public void put(EventLocation location) {
+        lock.writeLock().lock();
+        try {
+            doPut(location);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            doRemove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return cellById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Eventos a até {@code radiusKm} do ponto (distância do grande círculo), do mais próximo
+     * ao mais distante. Datas e categoria nulas não filtram.
+     */
+    public List<Hit> searchRadius(double latitude, double longitude, double radiusKm,
+                                  LocalDate startDate, LocalDate endDate, EventCategory category, int limit) {
+        double angular = radiusKm / EARTH_RADIUS_KM;
+        double deltaLat = radiusKm / KM_PER_DEGREE;
+        double minLat = latitude - deltaLat;
+        double maxLat = latitude + deltaLat;
+        double west = -180;
+        double east = 180;
+        // Perto dos polos ou com raio enorme o retângulo envolvente cobre todas as longitudes
+        if (minLat > -90 && maxLat < 90 && angular < Math.PI / 2) {
+            double deltaLon = Math.toDegrees(Math.asin(Math.sin(angular) / Math.cos(Math.toRadians(latitude))));
+            west = longitude - deltaLon;
+            east = longitude + deltaLon;
+        }
+
+        double lat1 = Math.toRadians(latitude);
+        double cosLat1 = Math.cos(lat1);
+        Filter filter = new Filter(startDate, endDate, category);
+        List<Hit> hits = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            scan(minLat, maxLat, west, east, cell -> {
+                for (int i = 0; i < cell.size; i++) {
+                    if (!filter.matches(cell, i)) {
+                        continue;
+                    }
+                    double distance = haversine(lat1, cosLat1, longitude, cell.latitudes[i], cell.longitudes[i]);
+                    if (distance <= radiusKm) {
+                        hits.add(new Hit(cell.ids[i], distance));
+                    }
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm).thenComparingLong(Hit::id));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    /**
+     * Eventos dentro do retângulo, ordenados por ID. Se {@code minLongitude > maxLongitude}
+     * o retângulo atravessa o antimeridiano.
+     */
+    public List<Hit> searchBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                               LocalDate startDate, LocalDate endDate, EventCategory category, int limit) {
+        boolean wraps = minLongitude > maxLongitude;
+        double east = wraps ? maxLongitude + 360 : maxLongitude;
+        Filter filter = new Filter(startDate, endDate, category);
+        List<Hit> hits = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            scan(minLatitude, maxLatitude, minLongitude, east, cell -> {
+                for (int i = 0; i < cell.size; i++) {
+                    double lat = cell.latitudes[i];
+                    double lon = cell.longitudes[i];
+                    boolean inLongitude = wraps
+                            ? lon >= minLongitude || lon <= maxLongitude
+                            : lon >= minLongitude && lon <= maxLongitude;
+                    if (lat >= minLatitude && lat <= maxLatitude && inLongitude && filter.matches(cell, i)) {
+                        hits.add(new Hit(cell.ids[i], 0));
+                    }
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingLong(Hit::id));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    /**
+     * Visita as células que cruzam o retângulo; {@code west..east} pode passar de ±180.
+     * Quando o retângulo cobre mais células do que as ocupadas, percorre só as ocupadas.
+     */
+    private void scan(double minLat, double maxLat, double west, double east, CellVisitor visitor) {
+        int rowStart = row(Math.max(minLat, -90));
+        int rowEnd = row(Math.min(maxLat, 90));
+        long columnStart = (long) Math.floor((west + 180) / cellDegrees);
+        long columnCount = Math.min(columns, (long) Math.floor((east + 180) / cellDegrees) - columnStart + 1);
+        if (rowEnd < rowStart || columnCount <= 0) {
+            return;
+        }
+
+        if ((long) (rowEnd - rowStart + 1) * columnCount > cells.size()) {
+            for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                long key = entry.getKey();
+                int row = (int) (key / columns);
+                long offset = Math.floorMod(key % columns - columnStart, (long) columns);
+                if (row >= rowStart && row <= rowEnd && offset < columnCount) {
+                    visitor.visit(entry.getValue());
+                }
+            }
+            return;
+        }
+
+        for (int row = rowStart; row <= rowEnd; row++) {
+            for (long i = 0; i < columnCount; i++) {
+                Cell cell = cells.get((long) row * columns + Math.floorMod(columnStart + i, (long) columns));
+                if (cell != null) {
+                    visitor.visit(cell);
+                }
+            }
+        }
+    }
+
+    private void doPut(EventLocation location) {
+        long id = location.id();
+        doRemove(id);
+        if (location.latitude() == null || location.longitude() == null) {
+            return;
+        }
+        double latitude = location.latitude();
+        double longitude = location.longitude();
+        long key = cellKey(latitude, longitude);
+        cells.computeIfAbsent(key, k -> new Cell())
+                .add(id, latitude, longitude, location.eventDate(), location.category());
+        cellById.put(id, key);
+    }
+
+    private void doRemove(long id) {
+        Long key = cellById.remove(id);
+        if (key == null) {
+            return;
+        }
+        Cell cell = cells.get(key);
+        cell.remove(id);
+        if (cell.size == 0) {
+            cells.remove(key);
+        }
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        long column = Math.floorMod((long) Math.floor((longitude + 180) / cellDegrees), (long) columns);
+        return (long) row(latitude) * columns + column;
+    }
+
+    private int row(double latitude) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor((latitude + 90) / cellDegrees)));
+    }
+
+    private static double haversine(double lat1, double cosLat1, double lon1, double latitude, double longitude) {
+        double lat2 = Math.toRadians(latitude);
+        double sinLat = Math.sin((lat2 - lat1) / 2);
+        double sinLon = Math.sin(Math.toRadians(longitude - lon1) / 2);
+        double a = sinLat * sinLat + cosLat1 * Math.cos(lat2) * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    @FunctionalInterface
+    private interface CellVisitor {
+        void visit(Cell cell);
+    }
+
+    private record Filter(long minDay, long maxDay, int category) {
+
+        Filter(LocalDate startDate, LocalDate endDate, EventCategory category) {
+            this(startDate == null ? Long.MIN_VALUE : startDate.toEpochDay(),
+                    endDate == null ? Long.MAX_VALUE : endDate.toEpochDay(),
+                    category == null ? -1 : category.ordinal());
+        }
+
+        boolean matches(Cell cell, int i) {
+            long day = cell.days[i];
+            return day >= minDay && day <= maxDay && (category < 0 || cell.categories[i] == category);
+        }
+    }
+
+    /**
+     * Eventos de uma célula em arrays paralelos; a remoção troca o último elemento para a posição liberada.
+     */
+    private static final class Cell {
+
+        private static final long NO_DATE = Long.MIN_VALUE;
+
+        long[] ids = new long[4];
+        double[] latitudes = new double[4];
+        double[] longitudes = new double[4];
+        long[] days = new long[4];
+        int[] categories = new int[4];
+        int size;
+
+        void add(long id, double latitude, double longitude, LocalDate eventDate, EventCategory category) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+                days = Arrays.copyOf(days, capacity);
+                categories = Arrays.copyOf(categories, capacity);
+            }
+            ids[size] = id;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            // Sem data o evento só aparece em buscas sem filtro de início
+            days[size] = eventDate == null ? NO_DATE : eventDate.toEpochDay();
+            categories[size] = category == null ? -1 : category.ordinal();
+            size++;
+        }
+
+        void remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    int last = --size;
+                    ids[i] = ids[last];
+                    latitudes[i] = latitudes[last];
+                    longitudes[i] = longitudes[last];
+                    days[i] = days[last];
+                    categories[i] = categories[last];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.dto.EventTerms;
+import com.dtidigital.event_manager.dto.Suggestion;
+import com.dtidigital.event_manager.enums.SuggestField;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Autocomplete em memória para nome, organizador e local: por campo, os valores distintos
+ * (sem acento e caixa) ficam ordenados com a quantidade de eventos que os usam, e um prefixo
+ * vira uma faixa da árvore. Prefixos curtos, cuja faixa é grande, têm os mais usados guardados
+ * em cache e ajustados a cada escrita, sem varrer a faixa de novo.
+ */
+public class EventSuggester implements EventIndex<EventTerms> {
+
+    public static final int MAX_SUGGESTIONS = 20;
+
+    // Faixas maiores que isso têm o resultado guardado em cache
+    private static final int CACHE_MIN_RANGE = 256;
+
+    // Folga sobre MAX_SUGGESTIONS para que remoções no topo não obriguem a varrer a faixa
+    private static final int CACHE_DEPTH = 2 * MAX_SUGGESTIONS;
+
+    private static final Comparator<Term> BY_WEIGHT = Comparator.comparingInt((Term term) -> term.count).reversed()
+            .thenComparing(term -> term.key);
+
+    private final Map<SuggestField, NavigableMap<String, Term>> terms = new EnumMap<>(SuggestField.class);
+    private final Map<SuggestField, Map<String, CachedTop>> cache = new EnumMap<>(SuggestField.class);
+    // Termos contados para cada evento, para descontar na alteração ou remoção
+    private final Map<Long, Term[]> termsById = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public EventSuggester() {
+        for (SuggestField field : SuggestField.values()) {
+            terms.put(field, new TreeMap<>());
+            cache.put(field, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void rebuild(Collection<EventTerms> events) {
+        rebuild(() -> events);
+    }
+
+    // Lê o banco com o write lock: escritas concorrentes esperam a carga terminar
+    @Override
+    public void rebuild(Supplier<? extends Collection<EventTerms>> loader) {
+        lock.writeLock().lock();
+        try {
+            terms.values().forEach(Map::clear);
+            cache.values().forEach(Map::clear);
+            termsById.clear();
+            loader.get().forEach(this::doPut);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(EventTerms event) {
+        lock.writeLock().lock();
+        try {
+            doPut(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            doRemove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Valores do campo que começam com o prefixo, do mais usado ao menos usado.
+     */
+    public List<Suggestion> suggest(SuggestField field, String prefix, int limit) {
+        String key = prefix == null ? "" : TextNormalizer.normalize(prefix);
+        lock.readLock().lock();
+        try {
+            Map<String, CachedTop> fieldCache = cache.get(field);
+            CachedTop cached = fieldCache.get(key);
+            List<Term> top;
+            if (cached != null) {
+                top = cached.terms;
+            } else {
+                NavigableMap<String, Term> range = key.isEmpty()
+                        ? terms.get(field)
+                        : terms.get(field).subMap(key, true, key + Character.MAX_VALUE, false);
+                PriorityQueue<Term> heap = new PriorityQueue<>(CACHE_DEPTH + 1, BY_WEIGHT.reversed());
+                int scanned = 0;
+                for (Term term : range.values()) {
+                    scanned++;
+                    heap.add(term);
+                    if (heap.size() > CACHE_DEPTH) {
+                        heap.poll();
+                    }
+                }
+                top = new ArrayList<>(heap);
+                top.sort(BY_WEIGHT);
+                // Gravado ainda com o read lock, para não perder um ajuste de escrita posterior
+                if (scanned > CACHE_MIN_RANGE) {
+                    fieldCache.put(key, new CachedTop(top));
+                }
+            }
+            return top.stream().limit(limit).map(term -> new Suggestion(term.value, term.count)).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void doPut(EventTerms event) {
+        doRemove(event.id());
+        SuggestField[] fields = SuggestField.values();
+        Term[] counted = new Term[fields.length];
+        for (SuggestField field : fields) {
+            counted[field.ordinal()] = increment(field, value(field, event));
+        }
+        termsById.put(event.id(), counted);
+    }
+
+    private void doRemove(long id) {
+        Term[] counted = termsById.remove(id);
+        if (counted == null) {
+            return;
+        }
+        for (SuggestField field : SuggestField.values()) {
+            Term term = counted[field.ordinal()];
+            if (term != null) {
+                decrement(field, term);
+            }
+        }
+    }
+
+    private Term increment(SuggestField field, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String key = TextNormalizer.normalize(value);
+        if (key.isEmpty()) {
+            return null;
+        }
+        Term term = terms.get(field).computeIfAbsent(key, k -> new Term(k, value.strip()));
+        term.count++;
+        forEachCachedPrefix(field, key, (prefix, cached) -> {
+            List<Term> top = cached.terms;
+            if (!top.contains(term)) {
+                // Fora do cache, o termo só entra se passou o último; senão continua abaixo dele,
+                // junto com os demais de fora (que podem estar acima do termo)
+                if (BY_WEIGHT.compare(term, top.get(top.size() - 1)) > 0) {
+                    return;
+                }
+                top.add(term);
+            }
+            top.sort(BY_WEIGHT);
+            if (top.size() > CACHE_DEPTH) {
+                top.remove(CACHE_DEPTH);
+            }
+        });
+        return term;
+    }
+
+    private void decrement(SuggestField field, Term term) {
+        if (--term.count == 0) {
+            terms.get(field).remove(term.key);
+        }
+        Map<String, CachedTop> fieldCache = cache.get(field);
+        forEachCachedPrefix(field, term.key, (prefix, cached) -> {
+            List<Term> top = cached.terms;
+            int index = top.indexOf(term);
+            if (index < 0) {
+                return;
+            }
+            // Os termos fora do cache estão abaixo do último; se o termo não ficou acima dele,
+            // não dá para saber sua posição e ele sai do cache
+            Term last = top.get(top.size() - 1);
+            if (term.count == 0 || term == last || BY_WEIGHT.compare(term, last) > 0) {
+                top.remove(index);
+            } else {
+                top.sort(BY_WEIGHT);
+            }
+            if (top.size() < MAX_SUGGESTIONS) {
+                fieldCache.remove(prefix);
+            }
+        });
+    }
+
+    private void forEachCachedPrefix(SuggestField field, String key, BiConsumer<String, CachedTop> action) {
+        Map<String, CachedTop> fieldCache = cache.get(field);
+        if (fieldCache.isEmpty()) {
+            return;
+        }
+        for (int length = 0; length <= key.length(); length++) {
+            String prefix = key.substring(0, length);
+            CachedTop cached = fieldCache.get(prefix);
+            if (cached != null) {
+                action.accept(prefix, cached);
+            }
+        }
+    }
+
+    private static String value(SuggestField field, EventTerms event) {
+        return switch (field) {
+            case NAME -> event.name();
+            case ORGANIZER -> event.organizer();
+            case LOCATION -> event.location();
+        };
+    }
+
+    /**
+     * Valor distinto de um campo; {@code value} é a grafia de quem o cadastrou primeiro.
+     */
+    private static final class Term {
+
+        final String key;
+        final String value;
+        int count;
+
+        Term(String key, String value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Os termos mais usados de uma faixa, em ordem; todo termo da faixa fora da lista está abaixo do último.
+     */
+    private static final class CachedTop {
+
+        final List<Term> terms;
+
+        CachedTop(List<Term> terms) {
+            this.terms = terms;
+        }
+    }
+}
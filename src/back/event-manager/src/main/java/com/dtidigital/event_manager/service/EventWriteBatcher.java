@@ -0,0 +1,150 @@
+package com.dtidigital.event_manager.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Group commit para escritas de eventos. O SQLite tem um único writer e cada transação
+ * paga seu próprio fsync; aqui as escritas vão para uma fila e uma única thread as
+ * confirma em lotes, numa transação por lote. Quem chamou fica bloqueado até o commit
+ * do seu lote, então continua lendo o que acabou de escrever.
+ */
+@Component
+@ConditionalOnProperty(name = "events.write.group-commit.enabled", havingValue = "true")
+public class EventWriteBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(EventWriteBatcher.class);
+
+    private final BlockingQueue<PendingWrite<?>> queue = new LinkedBlockingQueue<>();
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${events.write.group-commit.max-batch-size:64}")
+    private int maxBatchSize;
+
+    @Value("${events.write.group-commit.max-delay-ms:5}")
+    private long maxDelayMs;
+
+    private TransactionTemplate transactionTemplate;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        running = true;
+        writer = new Thread(this::run, "event-write-batcher");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * Enfileira a operação e espera o commit do lote em que ela entrou.
+     * A operação pode ser executada mais de uma vez se o lote for desfeito,
+     * então deve partir sempre do mesmo estado.
+     */
+    public <T> T execute(Supplier<T> operation) {
+        if (!running) {
+            throw new IllegalStateException("Fila de escrita encerrada");
+        }
+        PendingWrite<T> write = new PendingWrite<>(operation, new CompletableFuture<>());
+        queue.add(write);
+        // stop() pode ter vindo entre a verificação e o add, com a thread já fora do laço: se a escrita
+        // ainda estiver na fila, ninguém mais a confirmaria. Se não estiver, a thread a pegou e vai confirmá-la.
+        if (!running && queue.remove(write)) {
+            throw new IllegalStateException("Fila de escrita encerrada");
+        }
+        try {
+            return write.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void run() {
+        List<PendingWrite<?>> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+                while (batch.size() < maxBatchSize) {
+                    PendingWrite<?> next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Encerrando: confirma o que já está na fila antes de sair
+                queue.drainTo(batch);
+            }
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingWrite<?>> batch) {
+        List<Object> results = new ArrayList<>(batch.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (PendingWrite<?> write : batch) {
+                    results.add(write.operation().get());
+                }
+            });
+        } catch (RuntimeException e) {
+            // Uma operação falhou e desfez o lote inteiro: refaz cada uma isoladamente
+            log.debug("Lote de {} escritas desfeito, reexecutando individualmente", batch.size(), e);
+            batch.forEach(this::commitAlone);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).complete(results.get(i));
+        }
+    }
+
+    private void commitAlone(PendingWrite<?> write) {
+        try {
+            write.complete(transactionTemplate.execute(status -> write.operation().get()));
+        } catch (RuntimeException e) {
+            write.result().completeExceptionally(e);
+        }
+    }
+
+    private record PendingWrite<T>(Supplier<T> operation, CompletableFuture<T> result) {
+
+        @SuppressWarnings("unchecked")
+        void complete(Object value) {
+            result.complete((T) value);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.dto.GeoPoint;
+
+import java.util.Optional;
+
+/**
+ * Converte o texto livre de {@code location} em coordenadas no momento da escrita.
+ * A implementação padrão é o {@link LocalGeocoder}; basta declarar outro bean para trocá-la.
+ */
+public interface Geocoder {
+
+    Optional<GeoPoint> geocode(String location);
+}
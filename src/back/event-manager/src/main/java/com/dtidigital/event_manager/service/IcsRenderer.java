@@ -0,0 +1,121 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.model.Event;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formato iCalendar (RFC 5545) dos feeds: linhas em CRLF quebradas a cada 75 octetos e textos escapados.
+ * Os horários saem convertidos para UTC, o que dispensa um VTIMEZONE no calendário.
+ */
+final class IcsRenderer {
+
+    static final byte[] FOOTER = "END:VCALENDAR\r\n".getBytes(StandardCharsets.UTF_8);
+
+    private static final DateTimeFormatter UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final ZoneId zone;
+
+    IcsRenderer(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    byte[] header(String calendarName) {
+        StringBuilder ics = new StringBuilder(256);
+        line(ics, "BEGIN:VCALENDAR");
+        line(ics, "VERSION:2.0");
+        line(ics, "PRODID:-//DTI Digital//Event Manager//PT-BR");
+        line(ics, "CALSCALE:GREGORIAN");
+        line(ics, "METHOD:PUBLISH");
+        line(ics, "X-WR-CALNAME:" + text(calendarName));
+        return ics.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Um VEVENT; {@code stamp} (DTSTAMP) é o momento da última alteração conhecida do evento.
+     */
+    byte[] event(Event event, Instant stamp) {
+        StringBuilder ics = new StringBuilder(512);
+        line(ics, "BEGIN:VEVENT");
+        line(ics, "UID:event-" + event.getId() + "@event-manager");
+        line(ics, "DTSTAMP:" + UTC.format(stamp));
+        line(ics, "DTSTART:" + utc(event.getEventDate(), event.getStartTime()));
+        line(ics, "DTEND:" + utc(event.getEventDate(), event.getEndTime()));
+        line(ics, "SUMMARY:" + text(event.getName()));
+        if (event.getLocation() != null) {
+            line(ics, "LOCATION:" + text(event.getLocation()));
+        }
+        // ORGANIZER exige um endereço (mailto:) que não temos; o organizador vai na descrição
+        String description = "Organizador: " + event.getOrganizer();
+        if (event.getDescription() != null && !event.getDescription().isBlank()) {
+            description = event.getDescription() + "\n\n" + description;
+        }
+        line(ics, "DESCRIPTION:" + text(description));
+        if (event.getCategory() != null) {
+            line(ics, "CATEGORIES:" + event.getCategory().name());
+        }
+        if (event.getLatitude() != null && event.getLongitude() != null) {
+            line(ics, "GEO:" + decimal(event.getLatitude()) + ";" + decimal(event.getLongitude()));
+        }
+        line(ics, "END:VEVENT");
+        return ics.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String utc(LocalDate date, LocalTime time) {
+        return UTC.format(date.atTime(time).atZone(zone));
+    }
+
+    // FLOAT do RFC 5545 não aceita notação científica (Double.toString escreve 1.0E-7)
+    private static String decimal(double value) {
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+
+    // Escapa os caracteres especiais de valores TEXT
+    static String text(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> escaped.append('\\').append(c);
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                    escaped.append("\\n");
+                    if (i + 1 < value.length() && value.charAt(i + 1) == '\n') {
+                        i++;
+                    }
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    // Quebra a linha em 75 octetos UTF-8 sem partir caracteres; continuações começam com um espaço
+    static void line(StringBuilder ics, String content) {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + size > MAX_LINE_OCTETS) {
+                ics.append("\r\n ");
+                octets = 1;
+            }
+            ics.appendCodePoint(codePoint);
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        ics.append("\r\n");
+    }
+}
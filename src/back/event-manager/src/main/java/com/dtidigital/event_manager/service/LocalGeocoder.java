@@ -0,0 +1,70 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.dto.GeoPoint;
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Geocoder local, sem chamadas externas: resolve a localização contra um gazetteer em CSV
+ * ({@code nome;latitude;longitude}). Vale o nome idêntico ao texto ou, senão, o nome mais
+ * longo contido nele como palavras inteiras (ex.: "Auditório DTI, Belo Horizonte").
+ * Acentos e caixa são ignorados.
+ */
+public class LocalGeocoder implements Geocoder {
+
+    private final Map<String, GeoPoint> places;
+
+    public LocalGeocoder(Map<String, GeoPoint> places) {
+        this.places = new HashMap<>();
+        places.forEach((name, point) -> this.places.put(TextNormalizer.normalize(name), point));
+    }
+
+    public static LocalGeocoder load(Resource gazetteer) throws IOException {
+        Map<String, GeoPoint> places = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(gazetteer.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(";");
+                if (fields.length != 3) {
+                    throw new IllegalArgumentException("Linha inválida no gazetteer: " + line);
+                }
+                places.put(fields[0], new GeoPoint(Double.parseDouble(fields[1].strip()),
+                        Double.parseDouble(fields[2].strip())));
+            }
+        }
+        return new LocalGeocoder(places);
+    }
+
+    @Override
+    public Optional<GeoPoint> geocode(String location) {
+        if (location == null || location.isBlank()) {
+            return Optional.empty();
+        }
+        String normalized = TextNormalizer.normalize(location);
+        GeoPoint exact = places.get(normalized);
+        if (exact != null) {
+            return Optional.of(exact);
+        }
+
+        String padded = " " + normalized + " ";
+        String best = null;
+        for (String name : places.keySet()) {
+            if ((best == null || name.length() > best.length()) && padded.contains(" " + name + " ")) {
+                best = name;
+            }
+        }
+        return Optional.ofNullable(best).map(places::get);
+    }
+}
@@ -0,0 +1,49 @@
+package com.dtidigital.event_manager.service;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Forma de comparação de textos livres: sem acentos, minúsculas e só letras e dígitos
+ * separados por um espaço. Caracteres ASCII são tratados sem passar pelo {@link Normalizer}.
+ */
+final class TextNormalizer {
+
+    private TextNormalizer() {
+    }
+
+    static String normalize(String text) {
+        StringBuilder out = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 128) {
+                pendingSpace = append(out, c, pendingSpace);
+                continue;
+            }
+            // Decompõe o caractere acentuado e descarta as marcas (ex.: "ç" -> "c" + cedilha)
+            String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD).toLowerCase(Locale.ROOT);
+            for (int j = 0; j < decomposed.length(); j++) {
+                char d = decomposed.charAt(j);
+                if (Character.getType(d) != Character.NON_SPACING_MARK) {
+                    pendingSpace = append(out, d, pendingSpace);
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    private static boolean append(StringBuilder out, char c, boolean pendingSpace) {
+        if (c >= 'A' && c <= 'Z') {
+            c = (char) (c + ('a' - 'A'));
+        }
+        if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+            if (pendingSpace && !out.isEmpty()) {
+                out.append(' ');
+            }
+            out.append(c);
+            return false;
+        }
+        return true;
+    }
+}
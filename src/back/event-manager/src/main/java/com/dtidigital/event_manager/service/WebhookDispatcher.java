@@ -0,0 +1,192 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.dto.WebhookDelivery;
+import com.dtidigital.event_manager.dto.WebhookMessage;
+import com.dtidigital.event_manager.filter.TokenBucketRateLimiter;
+import com.dtidigital.event_manager.model.EventOutboxMessage;
+import com.dtidigital.event_manager.model.WebhookSubscription;
+import com.dtidigital.event_manager.repository.IEventOutboxRepository;
+import com.dtidigital.event_manager.repository.IWebhookSubscriptionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Entrega o outbox aos webhooks em segundo plano. Cada inscrição avança seu próprio cursor
+ * em lotes, um de cada vez, então a ordem é preservada por inscrição; uma falha interrompe só
+ * aquela inscrição, que tenta de novo com backoff exponencial a partir do mesmo lote
+ * (entrega at-least-once). Inscrições lentas ocupam apenas a própria virtual thread.
+ */
+@Component
+@ConditionalOnProperty(name = "events.webhooks.enabled", havingValue = "true", matchIfMissing = true)
+public class WebhookDispatcher {
+
+    static final String SIGNATURE_HEADER = "X-Event-Manager-Signature";
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookDispatcher.class);
+
+    @Autowired
+    private IWebhookSubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private IEventOutboxRepository outboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${events.webhooks.batch-size:100}")
+    private int batchSize;
+
+    @Value("${events.webhooks.timeout-ms:5000}")
+    private long timeoutMs;
+
+    @Value("${events.webhooks.max-backoff-seconds:300}")
+    private long maxBackoffSeconds;
+
+    @Value("${events.webhooks.rate.per-second:5}")
+    private double permitsPerSecond;
+
+    @Value("${events.webhooks.rate.burst:10}")
+    private int burst;
+
+    private HttpClient client;
+    private ExecutorService executor;
+    private TokenBucketRateLimiter rateLimiter;
+    // Inscrições com entrega em andamento: no máximo uma por inscrição, para manter a ordem
+    private final Set<Long> delivering = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void start() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(timeoutMs))
+                .executor(executor)
+                .build();
+        rateLimiter = new TokenBucketRateLimiter(permitsPerSecond, burst, 10_000);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    @Scheduled(fixedDelayString = "${events.webhooks.poll-interval-ms:1000}")
+    public void dispatch() {
+        LocalDateTime now = LocalDateTime.now();
+        for (WebhookSubscription subscription : subscriptionRepository.findAll()) {
+            if (subscription.getNextAttemptAt() != null && subscription.getNextAttemptAt().isAfter(now)) {
+                continue;
+            }
+            if (!delivering.add(subscription.getId())) {
+                continue;
+            }
+            executor.execute(() -> {
+                try {
+                    deliver(subscription);
+                } finally {
+                    delivering.remove(subscription.getId());
+                }
+            });
+        }
+    }
+
+    /**
+     * Envia lotes até esvaziar o outbox da inscrição, falhar ou esgotar o rate limit dela.
+     */
+    void deliver(WebhookSubscription subscription) {
+        String key = String.valueOf(subscription.getId());
+        while (true) {
+            List<EventOutboxMessage> batch = outboxRepository.findByIdGreaterThanOrderByIdAsc(
+                    subscription.getLastDeliveredId(), PageRequest.of(0, batchSize));
+            if (batch.isEmpty() || rateLimiter.tryAcquire(key) > 0) {
+                return;
+            }
+
+            String error = post(subscription, batch);
+            if (error != null) {
+                int failures = subscription.getFailures() + 1;
+                long backoff = Math.min(maxBackoffSeconds, 1L << Math.min(failures, 30));
+                subscriptionRepository.markFailed(subscription.getId(), failures,
+                        LocalDateTime.now().plusSeconds(backoff), error);
+                log.warn("Webhook {} falhou ({} falhas seguidas, nova tentativa em {} s): {}",
+                        subscription.getId(), failures, backoff, error);
+                return;
+            }
+
+            Long lastId = batch.get(batch.size() - 1).getId();
+            subscriptionRepository.markDelivered(subscription.getId(), lastId);
+            subscription.setLastDeliveredId(lastId);
+            subscription.setFailures(0);
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return nulo se o webhook respondeu 2xx; caso contrário, a descrição do erro
+     */
+    private String post(WebhookSubscription subscription, List<EventOutboxMessage> batch) {
+        try {
+            List<WebhookMessage> messages = batch.stream()
+                    .map(m -> new WebhookMessage(m.getId(), m.getType(), m.getEventId(), m.getCreatedAt(), m.getPayload()))
+                    .toList();
+            byte[] body = objectMapper.writeValueAsBytes(new WebhookDelivery(subscription.getId(), messages));
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(subscription.getUrl()))
+                    .timeout(Duration.ofMillis(timeoutMs))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+            if (subscription.getSecret() != null) {
+                request.header(SIGNATURE_HEADER, "sha256=" + sign(subscription.getSecret(), body));
+            }
+            HttpResponse<Void> response = client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() / 100 == 2 ? null : "HTTP " + response.statusCode();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "Entrega interrompida";
+        } catch (Exception e) {
+            String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+            return message.length() > 500 ? message.substring(0, 500) : message;
+        }
+    }
+
+    // Remove do outbox o que todas as inscrições já receberam
+    @Scheduled(fixedDelayString = "${events.webhooks.cleanup-interval-ms:60000}")
+    public void purgeDelivered() {
+        Long delivered = subscriptionRepository.findMinDeliveredId();
+        int removed = outboxRepository.deleteUpTo(delivered != null ? delivered : outboxRepository.findMaxId());
+        if (removed > 0) {
+            log.debug("{} mensagens entregues removidas do outbox", removed);
+        }
+    }
+
+    static String sign(String secret, byte[] body) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return HexFormat.of().formatHex(mac.doFinal(body));
+    }
+}
@@ -0,0 +1,43 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.dto.WebhookSubscriptionRequest;
+import com.dtidigital.event_manager.model.WebhookSubscription;
+import com.dtidigital.event_manager.repository.IEventOutboxRepository;
+import com.dtidigital.event_manager.repository.IWebhookSubscriptionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class WebhookSubscriptionService {
+
+    @Autowired
+    private IWebhookSubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private IEventOutboxRepository outboxRepository;
+
+    public List<WebhookSubscription> getAllSubscriptions() {
+        return subscriptionRepository.findAll();
+    }
+
+    // Novas inscrições recebem só as mudanças feitas a partir do cadastro
+    public WebhookSubscription createSubscription(WebhookSubscriptionRequest request) {
+        WebhookSubscription subscription = new WebhookSubscription();
+        subscription.setUrl(request.url());
+        subscription.setSecret(request.secret() == null || request.secret().isBlank() ? null : request.secret());
+        subscription.setLastDeliveredId(outboxRepository.findMaxId());
+        subscription.setCreatedAt(LocalDateTime.now());
+        return subscriptionRepository.save(subscription);
+    }
+
+    public boolean deleteSubscription(Long id) {
+        if (!subscriptionRepository.existsById(id)) {
+            return false;
+        }
+        subscriptionRepository.deleteById(id);
+        return true;
+    }
+}
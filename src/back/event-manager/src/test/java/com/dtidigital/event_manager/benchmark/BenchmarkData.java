@@ -0,0 +1,45 @@
+package com.dtidigital.event_manager.benchmark;
+
+import com.dtidigital.event_manager.enums.EventCategory;
+import com.dtidigital.event_manager.model.Event;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Gera listas de eventos sintéticos (e determinísticos) para os benchmarks.
+ */
+public final class BenchmarkData {
+
+    private static final String[] CITIES = {"Belo Horizonte", "São Paulo", "Rio de Janeiro", "Curitiba", "Recife"};
+    private static final String[] ORGANIZERS = {"DTI Digital", "Tech Events", "JS Community", "Prof. Silva", "Java BH"};
+
+    private BenchmarkData() {
+    }
+
+    public static List<Event> events(int count) {
+        Random random = new Random(42);
+        EventCategory[] categories = EventCategory.values();
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Event event = new Event();
+            event.setId((long) i + 1);
+            event.setName("Evento " + (i + 1) + " - " + categories[i % categories.length].getDisplayName());
+            event.setEventDate(LocalDate.of(2026, 1, 1).plusDays(random.nextInt(730)));
+            event.setStartTime(LocalTime.of(8 + random.nextInt(8), random.nextBoolean() ? 0 : 30));
+            event.setEndTime(event.getStartTime().plusHours(1 + random.nextInt(4)));
+            event.setLocation("Auditório " + (1 + random.nextInt(20)) + ", " + CITIES[random.nextInt(CITIES.length)]);
+            event.setOrganizer(ORGANIZERS[random.nextInt(ORGANIZERS.length)]);
+            event.setCapacity(10 + random.nextInt(490));
+            event.setDescription("Descrição do evento " + (i + 1) + ": palestras, oficinas e networking sobre tecnologia e inovação.");
+            event.setPrice(BigDecimal.valueOf(1000 + random.nextInt(50000), 2));
+            event.setCategory(categories[i % categories.length]);
+            events.add(event);
+        }
+        return events;
+    }
+}
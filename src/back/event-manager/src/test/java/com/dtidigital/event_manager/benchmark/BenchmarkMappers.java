@@ -0,0 +1,39 @@
+package com.dtidigital.event_manager.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * ObjectMapper igual ao da aplicação: auto-configuração Jackson do Spring Boot, com as
+ * propriedades spring.jackson.* de application.properties e os módulos das configurações informadas.
+ */
+public final class BenchmarkMappers {
+
+    private BenchmarkMappers() {
+    }
+
+    public static ObjectMapper applicationMapper(Class<?>... configurations) {
+        return applicationMapper(new JsonFactory(), configurations);
+    }
+
+    // Como em WebConfig: o builder da aplicação com a fábrica do formato binário
+    public static ObjectMapper applicationMapper(JsonFactory factory, Class<?>... configurations) {
+        Class<?>[] sources = new Class<?>[configurations.length + 1];
+        sources[0] = JacksonAutoConfiguration.class;
+        System.arraycopy(configurations, 0, sources, 1, configurations.length);
+        // O builder usa o contexto ao montar o mapper: montado antes de fechar o contexto
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(sources)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run()) {
+            return context.getBean(Jackson2ObjectMapperBuilder.class).factory(factory).build();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.dtidigital.event_manager.benchmark;
+
+import com.dtidigital.event_manager.model.Event;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Mede bytes trafegados e custo de CPU das listagens com e sem gzip, e o ganho
+ * do cache de respostas pré-comprimidas (acerto = apenas copiar os bytes).
+ *
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.dtidigital.event_manager.benchmark.CompressionBenchmark
+ * </pre>
+ */
+public class CompressionBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+
+    public static void main(String[] args) throws Exception {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+
+        System.out.printf("%8s %12s %12s %7s %16s %16s%n",
+                "events", "json bytes", "gzip bytes", "ratio", "json only (ms)", "json+gzip (ms)");
+        for (int size : SIZES) {
+            List<Event> events = BenchmarkData.events(size);
+            int iterations = Math.max(5, 200_000 / size);
+
+            byte[] json = mapper.writeValueAsBytes(events);
+            byte[] gzip = gzip(json);
+            for (int i = 0; i < iterations; i++) {
+                gzip(mapper.writeValueAsBytes(events));
+            }
+
+            long serializeNanos = 0;
+            long compressNanos = 0;
+            for (int i = 0; i < iterations; i++) {
+                long start = System.nanoTime();
+                json = mapper.writeValueAsBytes(events);
+                long serialized = System.nanoTime();
+                gzip = gzip(json);
+                compressNanos += System.nanoTime() - serialized;
+                serializeNanos += serialized - start;
+            }
+
+            System.out.printf("%8d %12d %12d %6.1fx %16.2f %16.2f%n", size, json.length, gzip.length,
+                    (double) json.length / gzip.length, serializeNanos / 1e6 / iterations,
+                    (serializeNanos + compressNanos) / 1e6 / iterations);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
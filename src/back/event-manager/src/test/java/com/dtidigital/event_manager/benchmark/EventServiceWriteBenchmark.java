@@ -0,0 +1,107 @@
+package com.dtidigital.event_manager.benchmark;
+
+import com.dtidigital.event_manager.EventManagerApplication;
+import com.dtidigital.event_manager.model.Event;
+import com.dtidigital.event_manager.service.EventService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Vazão de inserções concorrentes pelo {@link EventService}, com a aplicação inteira (histórico,
+ * outbox de webhooks, índices em memória) sobre arquivos novos: sem sharding e com 1, 2 e 4 shards.
+ * Ao contrário do {@link ShardWriteBenchmark}, cada escrita inclui a transação no banco principal,
+ * onde fica a linha do outbox.
+ *
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.dtidigital.event_manager.benchmark.EventServiceWriteBenchmark
+ * </pre>
+ */
+public class EventServiceWriteBenchmark {
+
+    // 0 = sem sharding
+    private static final int[] SHARDS = {0, 1, 2, 4};
+    private static final int THREADS = 16;
+    private static final int WRITES_PER_THREAD = 250;
+
+    public static void main(String[] args) throws Exception {
+        List<Event> events = BenchmarkData.events(THREADS * WRITES_PER_THREAD);
+        // Organizadores distintos, para a chave espalhar as escritas pelos shards
+        events.forEach(event -> event.setOrganizer(event.getOrganizer() + " " + event.getId()));
+        // O Event exige data futura na validação do JPA
+        events.forEach(event -> event.setEventDate(LocalDate.now().plusDays(1 + event.getId() % 730)));
+
+        List<String> lines = new ArrayList<>();
+        for (int shards : SHARDS) {
+            lines.add(run(shards, events));
+        }
+        // Impresso no fim, fora do log de inicialização de cada rodada
+        System.out.printf("%6s %8s %8s %12s %10s %10s%n", "shards", "threads", "writes", "writes/s", "p50 (ms)", "p99 (ms)");
+        lines.forEach(System.out::println);
+    }
+
+    private static String run(int shards, List<Event> events) throws Exception {
+        Path folder = Files.createTempDirectory("service-write-benchmark");
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try (ConfigurableApplicationContext context = application(shards, folder)) {
+            EventService eventService = context.getBean(EventService.class);
+            // Aquecimento: um evento por thread
+            for (int i = 0; i < THREADS; i++) {
+                eventService.saveEvent(ShardWriteBenchmark.copy(events.get(i)));
+            }
+            List<Future<long[]>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int t = 0; t < THREADS; t++) {
+                List<Event> slice = events.subList(t * WRITES_PER_THREAD, (t + 1) * WRITES_PER_THREAD);
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[slice.size()];
+                    for (int i = 0; i < slice.size(); i++) {
+                        long begin = System.nanoTime();
+                        eventService.saveEvent(ShardWriteBenchmark.copy(slice.get(i)));
+                        latencies[i] = System.nanoTime() - begin;
+                    }
+                    return latencies;
+                }));
+            }
+            long[] latencies = new long[events.size()];
+            int offset = 0;
+            for (Future<long[]> future : futures) {
+                long[] part = future.get();
+                System.arraycopy(part, 0, latencies, offset, part.length);
+                offset += part.length;
+            }
+            long nanos = System.nanoTime() - start;
+            Arrays.sort(latencies);
+
+            return String.format("%6d %8d %8d %12.0f %10.2f %10.2f", shards, THREADS, latencies.length,
+                    latencies.length / (nanos / 1e9), ShardWriteBenchmark.percentile(latencies, 0.50),
+                    ShardWriteBenchmark.percentile(latencies, 0.99));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ConfigurableApplicationContext application(int shards, Path folder) {
+        return new SpringApplicationBuilder(EventManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:sqlite:" + folder.resolve("event-manager.db"),
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--events.history.enabled=true",
+                        "--events.webhooks.enabled=true",
+                        "--events.sharding.enabled=" + (shards > 0),
+                        "--events.sharding.shards=" + Math.max(1, shards),
+                        "--events.sharding.directory=" + folder.resolve("shards"));
+    }
+}
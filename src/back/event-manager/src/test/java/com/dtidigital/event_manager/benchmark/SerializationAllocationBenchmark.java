@@ -0,0 +1,63 @@
+package com.dtidigital.event_manager.benchmark;
+
+import com.dtidigital.event_manager.config.EventJsonConfig;
+import com.dtidigital.event_manager.model.Event;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Compara bytes alocados e tempo por resposta JSON de 10 mil eventos entre o serializador padrão
+ * (reflexão + {@code @JsonFormat}) e o serializador de {@link EventJsonConfig}.
+ * <p>
+ * Os preços das listas reutilizadas guardam o próprio {@code toString()} em cache; com entidades
+ * recém-carregadas do banco os dois caminhos alocam ainda uma String por evento.
+ *
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.dtidigital.event_manager.benchmark.SerializationAllocationBenchmark
+ * </pre>
+ */
+public class SerializationAllocationBenchmark {
+
+    private static final int EVENTS = 10_000;
+    private static final int WARMUP = 30;
+    private static final int ITERATIONS = 50;
+
+    public static void main(String[] args) throws Exception {
+        List<Event> events = BenchmarkData.events(EVENTS);
+        ObjectMapper reflective = BenchmarkMappers.applicationMapper();
+        ObjectMapper custom = BenchmarkMappers.applicationMapper(EventJsonConfig.class);
+
+        System.out.printf("%-10s %8s %18s %14s%n", "serializer", "events", "alloc/resp (KB)", "write (ms)");
+        run("default", reflective, events);
+        run("custom", custom, events);
+    }
+
+    private static void run(String name, ObjectMapper mapper, List<Event> events) throws Exception {
+        // Sem fechar o destino: o mesmo stream recebe todas as respostas
+        ObjectWriter writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, Event.class))
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        OutputStream out = OutputStream.nullOutputStream();
+
+        for (int i = 0; i < WARMUP; i++) {
+            writer.writeValue(out, events);
+        }
+
+        long allocated = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            writer.writeValue(out, events);
+        }
+        long nanos = System.nanoTime() - start;
+        allocated = threads.getCurrentThreadAllocatedBytes() - allocated;
+
+        System.out.printf("%-10s %8d %18.1f %14.3f%n", name, events.size(),
+                allocated / 1024.0 / ITERATIONS, nanos / 1e6 / ITERATIONS);
+    }
+}
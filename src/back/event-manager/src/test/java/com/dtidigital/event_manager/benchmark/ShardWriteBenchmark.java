@@ -0,0 +1,109 @@
+package com.dtidigital.event_manager.benchmark;
+
+import com.dtidigital.event_manager.enums.ShardKey;
+import com.dtidigital.event_manager.model.Event;
+import com.dtidigital.event_manager.repository.IEventRepository;
+import com.dtidigital.event_manager.repository.ShardedEventRepository;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Vazão de inserções concorrentes no {@link ShardedEventRepository} com 1, 2 e 4 shards (arquivos
+ * SQLite em WAL, um writer por arquivo), com as mesmas threads e os mesmos eventos em cada rodada.
+ * Mede só os shards; a escrita completa, com a transação do outbox no banco principal, está no
+ * {@link EventServiceWriteBenchmark}.
+ *
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.dtidigital.event_manager.benchmark.ShardWriteBenchmark
+ * </pre>
+ */
+public class ShardWriteBenchmark {
+
+    private static final int[] SHARDS = {1, 2, 4};
+    private static final int THREADS = 16;
+    private static final int WRITES_PER_THREAD = 500;
+
+    public static void main(String[] args) throws Exception {
+        List<Event> events = BenchmarkData.events(THREADS * WRITES_PER_THREAD);
+        // Organizadores distintos, para a chave espalhar as escritas pelos shards
+        events.forEach(event -> event.setOrganizer(event.getOrganizer() + " " + event.getId()));
+
+        System.out.printf("%6s %8s %8s %12s %10s %10s%n", "shards", "threads", "writes", "writes/s", "p50 (ms)", "p99 (ms)");
+        for (int shards : SHARDS) {
+            run(shards, events);
+        }
+    }
+
+    private static void run(int shards, List<Event> events) throws Exception {
+        Path folder = Files.createTempDirectory("shard-benchmark");
+        ShardedEventRepository repository = repository(shards, folder);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            // Aquecimento: um evento por thread
+            for (int i = 0; i < THREADS; i++) {
+                repository.save(copy(events.get(i)));
+            }
+            List<Future<long[]>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int t = 0; t < THREADS; t++) {
+                List<Event> slice = events.subList(t * WRITES_PER_THREAD, (t + 1) * WRITES_PER_THREAD);
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[slice.size()];
+                    for (int i = 0; i < slice.size(); i++) {
+                        long begin = System.nanoTime();
+                        repository.save(copy(slice.get(i)));
+                        latencies[i] = System.nanoTime() - begin;
+                    }
+                    return latencies;
+                }));
+            }
+            long[] latencies = new long[events.size()];
+            int offset = 0;
+            for (Future<long[]> future : futures) {
+                long[] part = future.get();
+                System.arraycopy(part, 0, latencies, offset, part.length);
+                offset += part.length;
+            }
+            long nanos = System.nanoTime() - start;
+            Arrays.sort(latencies);
+
+            System.out.printf("%6d %8d %8d %12.0f %10.2f %10.2f%n", shards, THREADS, latencies.length,
+                    latencies.length / (nanos / 1e9), percentile(latencies, 0.50), percentile(latencies, 0.99));
+        } finally {
+            executor.shutdownNow();
+            ReflectionTestUtils.invokeMethod(repository, "stop");
+        }
+    }
+
+    private static ShardedEventRepository repository(int shards, Path folder) {
+        ShardedEventRepository repository = new ShardedEventRepository();
+        ReflectionTestUtils.setField(repository, "shards", shards);
+        ReflectionTestUtils.setField(repository, "directory", folder.toString());
+        ReflectionTestUtils.setField(repository, "key", ShardKey.ORGANIZER);
+        ReflectionTestUtils.setField(repository, "poolSize", 4);
+        // Sem tabela principal a migrar
+        ReflectionTestUtils.setField(repository, "eventRepository", Mockito.mock(IEventRepository.class));
+        ReflectionTestUtils.invokeMethod(repository, "start");
+        return repository;
+    }
+
+    static Event copy(Event event) {
+        return new Event(null, event.getName(), event.getEventDate(), event.getStartTime(), event.getEndTime(),
+                event.getLocation(), event.getOrganizer(), event.getCapacity(), event.getDescription(),
+                event.getPrice(), event.getCategory());
+    }
+
+    static double percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(quantile * sorted.length))] / 1e6;
+    }
+}
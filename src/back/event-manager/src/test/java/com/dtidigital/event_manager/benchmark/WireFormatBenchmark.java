@@ -0,0 +1,66 @@
+package com.dtidigital.event_manager.benchmark;
+
+import com.dtidigital.event_manager.config.EventJsonConfig;
+import com.dtidigital.event_manager.model.Event;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.util.List;
+
+/**
+ * Compara tamanho do payload e custo de CPU de JSON, CBOR e Smile para listas de eventos.
+ *
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.dtidigital.event_manager.benchmark.WireFormatBenchmark
+ * </pre>
+ */
+public class WireFormatBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000};
+    private static final int WARMUP = 30;
+    private static final int ITERATIONS = 50;
+
+    public static void main(String[] args) throws Exception {
+        // Mesmos mappers das respostas: o do Spring Boot e, como em WebConfig, as variantes binárias dele
+        ObjectMapper json = BenchmarkMappers.applicationMapper(EventJsonConfig.class);
+        ObjectMapper cbor = BenchmarkMappers.applicationMapper(new CBORFactory(), EventJsonConfig.class);
+        ObjectMapper smile = BenchmarkMappers.applicationMapper(new SmileFactory(), EventJsonConfig.class);
+
+        System.out.printf("%-6s %8s %12s %14s %14s%n", "format", "events", "bytes", "write (ms)", "read (ms)");
+        for (int size : SIZES) {
+            List<Event> events = BenchmarkData.events(size);
+            run("json", json, events);
+            run("cbor", cbor, events);
+            run("smile", smile, events);
+        }
+    }
+
+    private static void run(String name, ObjectMapper mapper, List<Event> events) throws Exception {
+        ObjectWriter writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, Event.class));
+        ObjectReader reader = mapper.readerFor(mapper.getTypeFactory().constructCollectionType(List.class, Event.class));
+
+        byte[] payload = writer.writeValueAsBytes(events);
+        for (int i = 0; i < WARMUP; i++) {
+            reader.readValue(writer.writeValueAsBytes(events));
+        }
+
+        long writeNanos = 0;
+        long readNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            payload = writer.writeValueAsBytes(events);
+            writeNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            reader.readValue(payload);
+            readNanos += System.nanoTime() - start;
+        }
+
+        System.out.printf("%-6s %8d %12d %14.3f %14.3f%n", name, events.size(), payload.length,
+                writeNanos / 1e6 / ITERATIONS, readNanos / 1e6 / ITERATIONS);
+    }
+}
@@ -0,0 +1,48 @@
+package com.dtidigital.event_manager.config;
+
+import com.dtidigital.event_manager.dto.EventTerms;
+import com.dtidigital.event_manager.enums.EventChangeType;
+import com.dtidigital.event_manager.model.Event;
+import com.dtidigital.event_manager.service.EventChange;
+import com.dtidigital.event_manager.service.EventSuggester;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class EventIndexConfigTest {
+
+    private final EventIndexConfig<EventTerms, EventSuggester> config = new EventIndexConfig<>() {
+        @Override
+        protected EventTerms row(Event event) {
+            return new EventTerms(event.getId(), event.getName(), event.getOrganizer(), event.getLocation());
+        }
+    };
+
+    @Test
+    void testChangesBeforeLoadAreIgnored() {
+        config.onEventChange(new EventChange(EventChangeType.DELETED, 1L, null, null));
+    }
+
+    @Test
+    void testAppliesChangesToLoadedIndex() {
+        EventSuggester index = mock(EventSuggester.class);
+        config.load(index, List::of);
+        verify(index).rebuild(any(Supplier.class));
+
+        Event event = new Event();
+        event.setId(7L);
+        event.setName("Workshop de Java");
+        config.onEventChange(new EventChange(EventChangeType.CREATED, 7L, null, event));
+        config.onEventChange(new EventChange(EventChangeType.UPDATED, 7L, event, event));
+        config.onEventChange(new EventChange(EventChangeType.ARCHIVED, 7L, event, null));
+        config.onEventChange(new EventChange(EventChangeType.DELETED, 8L, null, null));
+
+        verify(index, times(2)).put(new EventTerms(7L, "Workshop de Java", null, null));
+        verify(index).remove(7L);
+        verify(index).remove(8L);
+    }
+}
@@ -0,0 +1,25 @@
+package com.dtidigital.event_manager.config;
+
+import com.dtidigital.event_manager.model.Event;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+@JsonTest
+@Import(EventJsonConfig.class)
+class EventJsonConfigTest {
+
+    // ObjectMapper do Spring Boot, com as propriedades spring.jackson.* e os defaults do builder
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testBootMapperUsesCustomSerializer() throws Exception {
+        assertInstanceOf(EventJsonSerializer.class,
+                objectMapper.getSerializerProviderInstance().findValueSerializer(Event.class));
+    }
+}
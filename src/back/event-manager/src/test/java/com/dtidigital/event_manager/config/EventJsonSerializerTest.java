@@ -0,0 +1,75 @@
+package com.dtidigital.event_manager.config;
+
+import com.dtidigital.event_manager.benchmark.BenchmarkData;
+import com.dtidigital.event_manager.enums.EventCategory;
+import com.dtidigital.event_manager.model.Event;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventJsonSerializerTest {
+
+    @Test
+    void testSameBytesAsDefaultSerializer() throws Exception {
+        List<Event> events = new ArrayList<>(BenchmarkData.events(500));
+        Event located = event(LocalDate.of(2026, 3, 5), LocalTime.of(0, 5));
+        located.setLatitude(-19.9245);
+        located.setLongitude(-43.935);
+        located.setName("Aspas \" barra \\ e\tcontrole \u0001 — ação 🎉");
+        events.add(located);
+        Event empty = new Event();
+        empty.setLatitude(1e-7);
+        events.add(empty);
+        events.add(event(LocalDate.of(5, 1, 1), LocalTime.of(23, 59)));
+
+        assertSameJson(Jackson2ObjectMapperBuilder.json(), events, true);
+        assertSameJson(Jackson2ObjectMapperBuilder.json().featuresToEnable(SerializationFeature.INDENT_OUTPUT,
+                SerializationFeature.WRITE_ENUMS_USING_TO_STRING), events, true);
+    }
+
+    @Test
+    void testFallsBackToDefaultSerializer() throws Exception {
+        // Ano com 5 dígitos: "yyyy" escreve o sinal
+        assertSameJson(Jackson2ObjectMapperBuilder.json(),
+                List.of(event(LocalDate.of(12026, 1, 1), LocalTime.NOON)), true);
+        // Inclusão que omite nulos: o serializador padrão segue em uso
+        assertSameJson(Jackson2ObjectMapperBuilder.json().serializationInclusion(JsonInclude.Include.NON_NULL),
+                List.of(new Event(), event(LocalDate.of(2026, 1, 1), LocalTime.NOON)), false);
+    }
+
+    @Test
+    void testSerializerIsInstalled() throws Exception {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new EventJsonConfig().eventJsonModule()).build();
+
+        assertInstanceOf(EventJsonSerializer.class,
+                mapper.getSerializerProviderInstance().findValueSerializer(Event.class));
+        assertFalse(mapper.writeValueAsString(new Event()).isEmpty());
+    }
+
+    private static void assertSameJson(Jackson2ObjectMapperBuilder builder, List<Event> events,
+                                       boolean customInUse) throws Exception {
+        ObjectMapper reflective = builder.build();
+        ObjectMapper custom = builder.modulesToInstall(new EventJsonConfig().eventJsonModule()).build();
+        assertEquals(customInUse, custom.getSerializerProviderInstance()
+                .findValueSerializer(Event.class).getClass() == EventJsonSerializer.class);
+
+        byte[] expected = reflective.writeValueAsBytes(events);
+        assertArrayEquals(expected, custom.writeValueAsBytes(events), () -> new String(expected));
+    }
+
+    private static Event event(LocalDate date, LocalTime start) {
+        return new Event(1L, "Workshop de Java", date, start, start.plusMinutes(1), "Auditório DTI",
+                "DTI Digital", 50, null, new BigDecimal("50.00"), EventCategory.WORKSHOP);
+    }
+}
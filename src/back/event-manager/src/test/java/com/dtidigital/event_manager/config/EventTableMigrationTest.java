@@ -0,0 +1,123 @@
+package com.dtidigital.event_manager.config;
+
+import com.dtidigital.event_manager.repository.IEventOutboxRepository;
+import com.dtidigital.event_manager.repository.IEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.sqlite.SQLiteDataSource;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EventTableMigrationTest {
+
+    // Como o Hibernate 6 cria a tabela: colunas ordenadas pelo tipo, o ID no meio
+    private static final String HIBERNATE_TABLE = "CREATE TABLE events (capacity integer not null, "
+            + "latitude float, id integer, name varchar(100) not null, primary key (id))";
+
+    @TempDir
+    Path folder;
+
+    private SQLiteDataSource dataSource;
+    private IEventRepository eventRepository;
+    private IEventOutboxRepository outboxRepository;
+    private EventTableMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + folder.resolve("events.db"));
+        eventRepository = mock(IEventRepository.class);
+        outboxRepository = mock(IEventOutboxRepository.class);
+        migration = new EventTableMigration();
+        ReflectionTestUtils.setField(migration, "dataSource", dataSource);
+        ReflectionTestUtils.setField(migration, "eventRepository", eventRepository);
+        ReflectionTestUtils.setField(migration, "outboxRepository", outboxRepository);
+    }
+
+    @Test
+    void testIdsAreNotReusedAfterMigration() throws Exception {
+        // Com uma coluna acrescentada depois pelo ddl-auto=update, que o SQLite põe após a chave primária
+        execute(HIBERNATE_TABLE, "ALTER TABLE events ADD COLUMN category varchar(50)",
+                "CREATE INDEX idx_events_name on events (name)",
+                "INSERT INTO events (capacity, name) VALUES (10, 'Primeiro')",
+                "INSERT INTO events (capacity, name, latitude) VALUES (20, 'Segundo', -19.9)",
+                "INSERT INTO events (capacity, name) VALUES (30, 'Arquivado')",
+                "DELETE FROM events WHERE id = 3");
+        // O 3 está em events_archive; o 5 só no histórico
+        when(eventRepository.findMaxUsedId()).thenReturn(5L);
+
+        migration.migrate();
+        execute("INSERT INTO events (capacity, name) VALUES (40, 'Novo')");
+
+        assertEquals("1 Primeiro, 2 Segundo -19.9, 6 Novo", query(
+                "SELECT GROUP_CONCAT(id || ' ' || name || COALESCE(' ' || latitude, ''), ', ') FROM events"));
+        assertEquals("idx_events_name", query("SELECT name FROM sqlite_master WHERE type = 'index' AND tbl_name = 'events'"));
+
+        // Já migrada: nada muda, nem a sequência
+        execute("DELETE FROM events WHERE id = 6");
+        migration.migrate();
+        execute("INSERT INTO events (capacity, name) VALUES (50, 'Depois')");
+        assertEquals("7", query("SELECT MAX(id) FROM events"));
+        verify(eventRepository, times(1)).findMaxUsedId();
+    }
+
+    @Test
+    void testMissingTableIsIgnored() throws Exception {
+        migration.migrate();
+
+        verifyNoInteractions(eventRepository, outboxRepository);
+    }
+
+    @Test
+    void testEmptiedOutboxKeepsSequenceAboveDeliveredCursor() throws Exception {
+        execute("CREATE TABLE event_outbox (id integer, event_id bigint not null, primary key (id))");
+        // Outbox já esvaziado pela limpeza; o cursor das inscrições parou no 8
+        when(outboxRepository.findMaxUsedId()).thenReturn(8L);
+
+        migration.migrate();
+        execute("INSERT INTO event_outbox (event_id) VALUES (1)");
+
+        assertEquals("9", query("SELECT id FROM event_outbox"));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void testAutoincrementDefinition() {
+        assertEquals("CREATE TABLE events (capacity integer not null, latitude float, id integer primary key autoincrement, "
+                + "name varchar(100) not null)", EventTableMigration.withAutoincrement("events", HIBERNATE_TABLE));
+        assertEquals("CREATE TABLE event_outbox (event_id bigint not null, id integer primary key autoincrement)",
+                EventTableMigration.withAutoincrement("event_outbox", "CREATE TABLE event_outbox (event_id bigint not null, "
+                        + "id integer, primary key (id))"));
+        assertEquals("CREATE TABLE events (id integer primary key autoincrement, organizer_id bigint)",
+                EventTableMigration.withAutoincrement("events", "CREATE TABLE events (id integer, organizer_id bigint, primary key (id))"));
+        assertNull(EventTableMigration.withAutoincrement("events", "CREATE TABLE events (name text, id integer primary key)"));
+        // O nome de uma tabela não casa com o de outra que começa igual
+        assertNull(EventTableMigration.withAutoincrement("events", "CREATE TABLE events_archive (id integer, primary key (id))"));
+    }
+
+    private void execute(String... statements) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private String query(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(sql)) {
+            return result.next() ? result.getString(1) : null;
+        }
+    }
+}
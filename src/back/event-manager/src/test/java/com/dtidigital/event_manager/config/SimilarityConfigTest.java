@@ -0,0 +1,55 @@
+package com.dtidigital.event_manager.config;
+
+import com.dtidigital.event_manager.dto.EventText;
+import com.dtidigital.event_manager.repository.IEventRepository;
+import com.dtidigital.event_manager.service.EventSimilarityIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SimilarityConfigTest {
+
+    private final IEventRepository eventRepository = mock(IEventRepository.class);
+    private final SimilarityConfig config = new SimilarityConfig();
+
+    @Test
+    void testRebuildSkipsRowsThatCannotBeRead() {
+        ReflectionTestUtils.setField(config, "eventRepository", eventRepository);
+        EventSimilarityIndex index = config.eventSimilarityIndex(3, 0.1, 1000);
+        assertFalse(index.isReady());
+
+        DataRetrievalFailureException parseError = new DataRetrievalFailureException("Error parsing date");
+        when(eventRepository.findAllTexts()).thenThrow(parseError);
+        when(eventRepository.findAllIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(eventRepository.findTextsByIdIn(List.of(1L, 2L, 3L))).thenThrow(parseError);
+        when(eventRepository.findTextsByIdIn(List.of(1L))).thenReturn(List.of(text(1L, "Workshop de Java")));
+        when(eventRepository.findTextsByIdIn(List.of(2L))).thenThrow(parseError);
+        when(eventRepository.findTextsByIdIn(List.of(3L))).thenReturn(List.of(text(3L, "Curso de Java")));
+
+        config.rebuild();
+
+        assertTrue(index.isReady());
+        assertEquals(2, index.size());
+        assertEquals(3L, index.similar(1L, 3).get(0).id());
+    }
+
+    @Test
+    void testFailedRebuildKeepsIndexNotReady() {
+        ReflectionTestUtils.setField(config, "eventRepository", eventRepository);
+        EventSimilarityIndex index = config.eventSimilarityIndex(3, 0.1, 1000);
+        when(eventRepository.findAllTexts()).thenThrow(new IllegalStateException("banco indisponível"));
+
+        config.rebuild();
+
+        assertFalse(index.isReady());
+    }
+
+    private static EventText text(long id, String name) {
+        return new EventText(id, name, null, null, null, null);
+    }
+}
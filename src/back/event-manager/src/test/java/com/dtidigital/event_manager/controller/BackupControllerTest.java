@@ -0,0 +1,35 @@
+package com.dtidigital.event_manager.controller;
+
+import com.dtidigital.event_manager.service.DatabaseBackupService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(BackupController.class)
+class BackupControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DatabaseBackupService backupService;
+
+    @Test
+    void testRestoreReturnsOnlyFileName() throws Exception {
+        when(backupService.restore("event-manager-20260110-120000.db", "restored.db"))
+                .thenReturn(Path.of("/srv/app/data/backups/restored.db"));
+
+        mockMvc.perform(post("/api/admin/backups/event-manager-20260110-120000.db/restore")
+                        .param("target", "restored.db"))
+                .andExpect(status().isCreated())
+                .andExpect(content().json("{\"file\": \"restored.db\"}", true));
+    }
+}
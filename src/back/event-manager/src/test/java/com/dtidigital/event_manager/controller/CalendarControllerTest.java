@@ -0,0 +1,81 @@
+package com.dtidigital.event_manager.controller;
+
+import com.dtidigital.event_manager.enums.EventCategory;
+import com.dtidigital.event_manager.service.CalendarFeedService;
+import com.dtidigital.event_manager.service.CalendarFeedService.Feed;
+import com.dtidigital.event_manager.service.CalendarFeedService.FeedKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(CalendarController.class)
+class CalendarControllerTest {
+
+    private static final String ICS = "BEGIN:VCALENDAR\r\nVERSION:2.0\r\nEND:VCALENDAR\r\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CalendarFeedService calendarFeedService;
+
+    private Feed feed;
+
+    @BeforeEach
+    void setUp() {
+        byte[] body = ICS.getBytes(StandardCharsets.UTF_8);
+        feed = new Feed("\"abc-1\"", Instant.parse("2026-01-10T12:00:00Z"), body.length, 0, List.of(body));
+        when(calendarFeedService.getFeed(any())).thenReturn(feed);
+    }
+
+    @Test
+    void testCategoryFeedStreamsIcs() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/calendar/category/WORKSHOP"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/calendar;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc-1\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().string(ICS));
+
+        verify(calendarFeedService).getFeed(FeedKey.category(EventCategory.WORKSHOP));
+    }
+
+    @Test
+    void testUnchangedFeedReturnsNotModified() throws Exception {
+        mockMvc.perform(get("/api/calendar/organizer").param("organizer", "DTI Digital")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"abc-1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/calendar/organizer").param("organizer", "DTI Digital")
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, "Sat, 10 Jan 2026 12:00:00 GMT"))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void testInvalidDateRange() throws Exception {
+        mockMvc.perform(get("/api/calendar/date-range")
+                        .param("startDate", LocalDate.of(2026, 2, 1).toString())
+                        .param("endDate", LocalDate.of(2026, 1, 1).toString()))
+                .andExpect(status().isBadRequest());
+    }
+}
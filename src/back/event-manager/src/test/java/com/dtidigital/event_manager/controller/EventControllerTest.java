@@ -1,16 +1,24 @@
 package com.dtidigital.event_manager.controller;
 
+import com.dtidigital.event_manager.dto.EventSummary;
 import com.dtidigital.event_manager.enums.EventCategory;
+import com.dtidigital.event_manager.exception.EventIndexNotReadyException;
 import com.dtidigital.event_manager.model.Event;
 import com.dtidigital.event_manager.service.EventService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -19,6 +27,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
@@ -37,6 +46,9 @@ class EventControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+
     private Event testEvent;
 
     @BeforeEach
@@ -59,7 +71,7 @@ class EventControllerTest {
     void testGetAllEvents() throws Exception {
      
         List<Event> events = Arrays.asList(testEvent);
-        when(eventService.getAllEvents()).thenReturn(events);
+        when(eventService.getAllEvents(false)).thenReturn(events);
 
        
         mockMvc.perform(get("/api/events"))
@@ -69,7 +81,52 @@ class EventControllerTest {
                 .andExpect(jsonPath("$[0].name").value("Test Event"))
                 .andExpect(jsonPath("$[0].organizer").value("Test Organizer"));
 
-        verify(eventService, times(1)).getAllEvents();
+        verify(eventService, times(1)).getAllEvents(false);
+    }
+
+    @Test
+    void testGetAllEvents_IncludeArchived() throws Exception {
+     
+        when(eventService.getAllEvents(true)).thenReturn(Arrays.asList(testEvent));
+
+       
+        mockMvc.perform(get("/api/events").param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1L));
+
+        verify(eventService, times(1)).getAllEvents(true);
+        verify(eventService, never()).getAllEvents(false);
+    }
+
+    @Test
+    void testGetAllEvents_Cbor() throws Exception {
+     
+        when(eventService.getAllEvents(false)).thenReturn(Arrays.asList(testEvent));
+
+       
+        byte[] body = mockMvc.perform(get("/api/events").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode events = new ObjectMapper(new CBORFactory()).readTree(body);
+        assertEquals("Test Event", events.get(0).get("name").asText());
+        assertEquals("10:00", events.get(0).get("startTime").asText());
+    }
+
+    @Test
+    void testBinaryConvertersUseBootObjectMapper() {
+        // Um conversor de cada formato, com o ObjectMapper do Spring Boot (spring.jackson.time-zone)
+        for (Class<?> type : List.of(MappingJackson2CborHttpMessageConverter.class,
+                MappingJackson2SmileHttpMessageConverter.class)) {
+            List<AbstractJackson2HttpMessageConverter> converters = handlerAdapter.getMessageConverters().stream()
+                    .filter(type::isInstance)
+                    .map(AbstractJackson2HttpMessageConverter.class::cast)
+                    .toList();
+            assertEquals(1, converters.size(), type.getSimpleName());
+            assertEquals("America/Sao_Paulo",
+                    converters.get(0).getObjectMapper().getSerializationConfig().getTimeZone().getID());
+        }
     }
 
     @Test
@@ -188,7 +245,7 @@ class EventControllerTest {
     void testGetEventsByCategory() throws Exception {
      
         List<Event> events = Arrays.asList(testEvent);
-        when(eventService.getEventsByCategory(EventCategory.CONFERENCE)).thenReturn(events);
+        when(eventService.getEventsByCategory(EventCategory.CONFERENCE, false)).thenReturn(events);
 
        
         mockMvc.perform(get("/api/events/category/CONFERENCE"))
@@ -196,7 +253,7 @@ class EventControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$[0].category").value("CONFERENCE"));
 
-        verify(eventService, times(1)).getEventsByCategory(EventCategory.CONFERENCE);
+        verify(eventService, times(1)).getEventsByCategory(EventCategory.CONFERENCE, false);
     }
 
     @Test
@@ -205,7 +262,7 @@ class EventControllerTest {
         List<Event> events = Arrays.asList(testEvent);
         LocalDate startDate = LocalDate.now();
         LocalDate endDate = LocalDate.now().plusDays(7);
-        when(eventService.getEventsByDateRange(startDate, endDate)).thenReturn(events);
+        when(eventService.getEventsByDateRange(startDate, endDate, false)).thenReturn(events);
 
        
         mockMvc.perform(get("/api/events/date-range")
@@ -214,14 +271,14 @@ class EventControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
 
-        verify(eventService, times(1)).getEventsByDateRange(startDate, endDate);
+        verify(eventService, times(1)).getEventsByDateRange(startDate, endDate, false);
     }
 
     @Test
     void testGetEventsByOrganizer() throws Exception {
      
         List<Event> events = Arrays.asList(testEvent);
-        when(eventService.getEventsByOrganizer("Test Organizer")).thenReturn(events);
+        when(eventService.getEventsByOrganizer("Test Organizer", false)).thenReturn(events);
 
        
         mockMvc.perform(get("/api/events/organizer")
@@ -229,14 +286,14 @@ class EventControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
 
-        verify(eventService, times(1)).getEventsByOrganizer("Test Organizer");
+        verify(eventService, times(1)).getEventsByOrganizer("Test Organizer", false);
     }
 
     @Test
     void testSearchEventsByName() throws Exception {
      
         List<Event> events = Arrays.asList(testEvent);
-        when(eventService.searchEventsByName("Test")).thenReturn(events);
+        when(eventService.searchEventsByName("Test", false)).thenReturn(events);
 
        
         mockMvc.perform(get("/api/events/search")
@@ -244,6 +301,36 @@ class EventControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
 
-        verify(eventService, times(1)).searchEventsByName("Test");
+        verify(eventService, times(1)).searchEventsByName("Test", false);
+    }
+
+    @Test
+    void testGetEventSummaries() throws Exception {
+     
+        EventSummary summary = new EventSummary(1L, "Test Event", LocalDate.of(2030, 5, 20),
+                LocalTime.of(10, 0), LocalTime.of(12, 0), "Test Location", EventCategory.CONFERENCE);
+        when(eventService.getEventSummaries()).thenReturn(Arrays.asList(summary));
+
+       
+        mockMvc.perform(get("/api/events/summary"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].name").value("Test Event"))
+                .andExpect(jsonPath("$[0].eventDate").value("2030-05-20"))
+                .andExpect(jsonPath("$[0].startTime").value("10:00"))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+
+        verify(eventService, times(1)).getEventSummaries();
+    }
+
+    @Test
+    void testGetSimilarEventsWhileIndexLoads() throws Exception {
+        when(eventService.getSimilarEvents(1L, 5))
+                .thenThrow(new EventIndexNotReadyException("Índice de eventos semelhantes ainda em construção"));
+
+        mockMvc.perform(get("/api/events/1/similar"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "5"))
+                .andExpect(jsonPath("$.status").value(503));
     }
 }
@@ -0,0 +1,98 @@
+package com.dtidigital.event_manager.filter;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedResponseCacheFilterTest {
+
+    private static final String BODY = "[" + "{\"name\":\"Test Event\"},".repeat(200) + "{}]";
+
+    private CompressedResponseCacheFilter filter;
+    private AtomicInteger renders;
+
+    @BeforeEach
+    void setUp() {
+        filter = new CompressedResponseCacheFilter(1024, 16);
+        renders = new AtomicInteger();
+    }
+
+    @Test
+    void testCompressesAndCachesResponse() throws Exception {
+        MockHttpServletResponse first = perform(gzipRequest(), BODY);
+        MockHttpServletResponse second = perform(gzipRequest(), BODY);
+
+        assertEquals(1, renders.get());
+        assertEquals("gzip", first.getHeader("Content-Encoding"));
+        assertEquals("*", second.getHeader("Access-Control-Allow-Origin"));
+        assertEquals(BODY, gunzip(second.getContentAsByteArray()));
+        assertArrayEquals(first.getContentAsByteArray(), second.getContentAsByteArray());
+    }
+
+    @Test
+    void testInvalidateForcesRender() throws Exception {
+        perform(gzipRequest(), BODY);
+        filter.invalidate();
+        perform(gzipRequest(), BODY);
+
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    void testSmallResponseIsNotCompressed() throws Exception {
+        MockHttpServletResponse response = perform(gzipRequest(), "[]");
+
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals("[]", response.getContentAsString());
+    }
+
+    @Test
+    void testClientWithoutGzipIsNotFiltered() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+
+        MockHttpServletResponse response = perform(request, BODY);
+
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals(BODY, response.getContentAsString());
+    }
+
+    private MockHttpServletRequest gzipRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.addHeader("Accept-Encoding", "gzip, deflate, br");
+        return request;
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, String body) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                renders.incrementAndGet();
+                resp.setContentType("application/json");
+                resp.setHeader("Access-Control-Allow-Origin", "*");
+                resp.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.dtidigital.event_manager.filter;
+
+import com.dtidigital.event_manager.enums.EndpointClass;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Map<EndpointClass, RateLimitFilter.Limits> limits = new EnumMap<>(EndpointClass.class);
+        limits.put(EndpointClass.READ, new RateLimitFilter.Limits(new TokenBucketRateLimiter(100, 100, 100), 10));
+        limits.put(EndpointClass.SEARCH, new RateLimitFilter.Limits(new TokenBucketRateLimiter(1, 1, 100), 10));
+        limits.put(EndpointClass.WRITE, new RateLimitFilter.Limits(new TokenBucketRateLimiter(100, 100, 100), 0));
+        filter = new RateLimitFilter(limits, new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+    }
+
+    @Test
+    void testSearchOverLimitReturns429() throws Exception {
+        MockHttpServletResponse first = perform(new MockHttpServletRequest("GET", "/api/events/search"));
+        MockHttpServletResponse second = perform(new MockHttpServletRequest("GET", "/api/events/search"));
+
+        assertEquals(200, first.getStatus());
+        assertEquals(429, second.getStatus());
+        assertEquals("1", second.getHeader("Retry-After"));
+        assertEquals(1.0, meterRegistry.get("events.requests.rejected")
+                .tag("endpoint", "search").tag("reason", "rate_limit").counter().count());
+    }
+
+    @Test
+    void testWriteOverConcurrencyLimitIsShed() throws Exception {
+        MockHttpServletResponse response = perform(new MockHttpServletRequest("POST", "/api/events"));
+
+        assertEquals(503, response.getStatus());
+        assertNotNull(response.getHeader("Retry-After"));
+        assertEquals(1.0, meterRegistry.get("events.requests.rejected")
+                .tag("endpoint", "write").tag("reason", "overload").counter().count());
+    }
+
+    @Test
+    void testClassify() {
+        assertEquals(EndpointClass.READ, RateLimitFilter.classify(new MockHttpServletRequest("GET", "/api/events")));
+        assertEquals(EndpointClass.SEARCH, RateLimitFilter.classify(new MockHttpServletRequest("GET", "/api/events/search/global")));
+        assertEquals(EndpointClass.SEARCH, RateLimitFilter.classify(new MockHttpServletRequest("GET", "/api/events/organizer")));
+        assertEquals(EndpointClass.WRITE, RateLimitFilter.classify(new MockHttpServletRequest("DELETE", "/api/events/1")));
+        assertEquals(EndpointClass.READ, RateLimitFilter.classify(new MockHttpServletRequest("OPTIONS", "/api/events/1")));
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
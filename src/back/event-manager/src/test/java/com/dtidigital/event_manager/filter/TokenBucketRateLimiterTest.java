@@ -0,0 +1,50 @@
+package com.dtidigital.event_manager.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    @Test
+    void testAllowsBurstThenRejects() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 3, 100);
+
+        assertEquals(0, limiter.tryAcquire("client"));
+        assertEquals(0, limiter.tryAcquire("client"));
+        assertEquals(0, limiter.tryAcquire("client"));
+
+        long wait = limiter.tryAcquire("client");
+        assertTrue(wait > 0);
+        assertTrue(wait <= TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void testClientsHaveIndependentBuckets() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, 100);
+
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a") > 0);
+        assertEquals(0, limiter.tryAcquire("b"));
+    }
+
+    @Test
+    void testIdleBucketsAreEvicted() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1000, 1, 2);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        Thread.sleep(5);
+        limiter.tryAcquire("c");
+
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(0, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(1, 0, 10));
+    }
+}
@@ -0,0 +1,82 @@
+package com.dtidigital.event_manager.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latências (em microssegundos) e falhas de uma operação. Guarda todas as amostras, então
+ * os percentis são exatos; para as durações de um teste local isso cabe folgado na memória.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+    private long rejected;
+    private long dropped;
+
+    synchronized void record(long micros) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = micros;
+    }
+
+    /**
+     * Resposta inesperada ou falha de conexão; a latência também é registrada.
+     */
+    synchronized void error(long micros) {
+        record(micros);
+        errors++;
+    }
+
+    /**
+     * 429 ou 503 do rate limiting da aplicação.
+     */
+    synchronized void rejected(long micros) {
+        record(micros);
+        rejected++;
+    }
+
+    /**
+     * Não enviada porque o limite de requisições em andamento do driver foi atingido.
+     */
+    synchronized void dropped() {
+        dropped++;
+    }
+
+    synchronized Snapshot snapshot(double seconds) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new Snapshot(sorted, errors, rejected, dropped, seconds);
+    }
+
+    record Snapshot(long[] sorted, long errors, long rejected, long dropped, double seconds) {
+
+        long count() {
+            return sorted.length;
+        }
+
+        double throughput() {
+            return seconds > 0 ? sorted.length / seconds : 0;
+        }
+
+        /**
+         * Falhas (erros, rejeições e descartes) sobre o total de tentativas.
+         */
+        double errorRate() {
+            long attempts = sorted.length + dropped;
+            return attempts == 0 ? 0 : (double) (errors + rejected + dropped) / attempts;
+        }
+
+        /**
+         * Percentil (0-100) em milissegundos, pelo método nearest-rank.
+         */
+        double percentileMillis(double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+            return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)] / 1000.0;
+        }
+    }
+}
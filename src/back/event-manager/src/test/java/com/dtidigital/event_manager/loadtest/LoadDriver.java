@@ -0,0 +1,264 @@
+package com.dtidigital.event_manager.loadtest;
+
+import com.dtidigital.event_manager.EventManagerApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Teste de carga com workload misto (leitura, busca e escrita) descrito num cenário .properties.
+ * Dispara as requisições em taxa fixa, cada uma numa virtual thread, e ao final imprime vazão e
+ * percentis de latência por operação. Falha (exceção, código de saída diferente de zero) se algum
+ * SLO do cenário for violado. Com {@code load.backup-at-seconds}, dispara um backup online no meio
+ * da medição e reporta à parte as escritas feitas enquanto ele rodava.
+ *
+ * <pre>
+ * ./mvnw -Ploadtest verify -DskipTests -Dloadtest.scenario=loadtest/mixed.properties
+ * </pre>
+ */
+public final class LoadDriver {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final LoadTestScenario scenario;
+    private final HttpClient client;
+    private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+    // Eventos criados pelo próprio teste: os únicos que o DELETE remove, para preservar a massa
+    private final Queue<Long> createdIds = new ConcurrentLinkedQueue<>();
+    private final Operation[] schedule;
+    // Escritas cujo instante planejado caiu durante o backup
+    private final Map<Operation, LatencyRecorder> duringBackup = new EnumMap<>(Operation.class);
+    private volatile long backupStartedAt;
+    private volatile long backupEndedAt;
+
+    LoadDriver(LoadTestScenario scenario) {
+        this.scenario = scenario;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        List<Operation> weighted = new ArrayList<>();
+        scenario.mix().forEach((operation, weight) -> {
+            recorders.put(operation, new LatencyRecorder());
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        });
+        if (recorders.containsKey(Operation.DELETE)) {
+            recorders.putIfAbsent(Operation.CREATE, new LatencyRecorder());
+        }
+        this.schedule = weighted.toArray(Operation[]::new);
+        recorders.keySet().stream().filter(Operation::isWrite)
+                .forEach(operation -> duringBackup.put(operation, new LatencyRecorder()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestScenario scenario = LoadTestScenario.load(args.length > 0 ? args[0] : "loadtest/mixed.properties");
+        ConfigurableApplicationContext application = null;
+        try {
+            URI base;
+            if (scenario.baseUrl().isEmpty()) {
+                application = startApplication(scenario);
+                int port = ((WebServerApplicationContext) application).getWebServer().getPort();
+                base = URI.create("http://localhost:" + port);
+            } else {
+                base = URI.create(scenario.baseUrl());
+            }
+
+            List<String> violations = new LoadDriver(scenario).run(base);
+            if (!violations.isEmpty()) {
+                throw new IllegalStateException("SLOs violados:\n  " + String.join("\n  ", violations));
+            }
+            System.out.println("Todos os SLOs foram atendidos.");
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestScenario scenario) {
+        if (!Files.exists(scenario.dataFile())) {
+            SyntheticDataGenerator.seed(scenario.dataFile(), scenario.dataEvents(), scenario.dataSeed());
+        }
+        return SpringApplication.run(EventManagerApplication.class,
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:sqlite:" + scenario.dataFile().toAbsolutePath(),
+                "--spring.jpa.show-sql=false",
+                // Todo o tráfego sai de um único cliente; o rate limiting rejeitaria quase tudo
+                "--events.rate-limit.enabled=false",
+                "--events.archive.enabled=false");
+    }
+
+    List<String> run(URI base) throws InterruptedException {
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / scenario.rate());
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(scenario.warmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(scenario.durationSeconds());
+        Semaphore inFlight = new Semaphore(scenario.maxInFlight());
+
+        System.out.printf("Carga em %s: %.0f req/s por %d s (+%d s de aquecimento)%n",
+                base, scenario.rate(), scenario.durationSeconds(), scenario.warmupSeconds());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (scenario.backupAtSeconds() >= 0) {
+                long backupAt = measureFrom + TimeUnit.SECONDS.toNanos(scenario.backupAtSeconds());
+                executor.execute(() -> backup(base, backupAt));
+            }
+            for (long i = 0; ; i++) {
+                long intended = start + i * interval;
+                if (intended >= end) {
+                    break;
+                }
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+                boolean measured = intended >= measureFrom;
+                if (!inFlight.tryAcquire()) {
+                    if (measured) {
+                        recorders.get(operation).dropped();
+                    }
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        execute(base, operation, intended, measured);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return report();
+    }
+
+    private void execute(URI base, Operation operation, long intended, boolean measured) {
+        // Sem evento próprio para remover, o DELETE vira um CREATE
+        Long ownId = operation == Operation.DELETE ? createdIds.poll() : null;
+        Operation actual = operation == Operation.DELETE && ownId == null ? Operation.CREATE : operation;
+        long id = ownId != null ? ownId : 1 + ThreadLocalRandom.current().nextLong(scenario.dataEvents());
+        LatencyRecorder recorder = recorders.get(actual);
+
+        HttpRequest request = actual.request(base, id);
+        int status;
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            status = response.statusCode();
+            if (actual == Operation.CREATE && status == Operation.CREATE.expectedStatus) {
+                createdIds.add(MAPPER.readTree(response.body()).get("id").asLong());
+            }
+        } catch (Exception e) {
+            status = -1;
+        }
+
+        if (!measured) {
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+        record(recorder, status, actual.expectedStatus, micros);
+        long backupStart = backupStartedAt;
+        long backupEnd = backupEndedAt;
+        if (actual.isWrite() && backupStart != 0 && intended >= backupStart && (backupEnd == 0 || intended < backupEnd)) {
+            record(duringBackup.get(actual), status, actual.expectedStatus, micros);
+        }
+    }
+
+    private static void record(LatencyRecorder recorder, int status, int expectedStatus, long micros) {
+        if (status == expectedStatus) {
+            recorder.record(micros);
+        } else if (status == 429 || status == 503) {
+            recorder.rejected(micros);
+        } else {
+            recorder.error(micros);
+        }
+    }
+
+    /**
+     * Dispara o backup em {@code at} e acompanha o status até ele terminar, marcando a janela.
+     */
+    private void backup(URI base, long at) {
+        long wait = at - System.nanoTime();
+        if (wait > 0) {
+            LockSupport.parkNanos(wait);
+        }
+        try {
+            HttpResponse<String> started = client.send(HttpRequest.newBuilder(base.resolve("/api/admin/backups"))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+            if (started.statusCode() != 202) {
+                System.out.println("Backup não iniciado: HTTP " + started.statusCode());
+                return;
+            }
+            backupStartedAt = System.nanoTime();
+            HttpRequest statusRequest = HttpRequest.newBuilder(base.resolve("/api/admin/backups/status")).GET().build();
+            while (true) {
+                Thread.sleep(100);
+                String body = client.send(statusRequest, HttpResponse.BodyHandlers.ofString()).body();
+                String state = MAPPER.readTree(body).path("state").asText();
+                if (!"RUNNING".equals(state)) {
+                    backupEndedAt = System.nanoTime();
+                    System.out.printf("Backup %s em %.1f s: %s%n", state,
+                            (backupEndedAt - backupStartedAt) / 1e9, body);
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("Falha ao acompanhar o backup: " + e);
+        }
+    }
+
+    private List<String> report() {
+        double seconds = scenario.durationSeconds();
+        List<String> violations = new ArrayList<>();
+        long total = 0;
+        System.out.printf("%-22s %8s %8s %7s %6s %6s %9s %9s %9s %9s %9s%n", "operação", "total", "req/s",
+                "erros", "rej.", "desc.", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<Operation, LatencyRecorder> entry : recorders.entrySet()) {
+            LatencyRecorder.Snapshot result = entry.getValue().snapshot(seconds);
+            total += result.count();
+            System.out.printf("%-22s %8d %8.1f %7d %6d %6d %9.2f %9.2f %9.2f %9.2f %9.2f%n", entry.getKey().key,
+                    result.count(), result.throughput(), result.errors(), result.rejected(), result.dropped(),
+                    result.percentileMillis(50), result.percentileMillis(90), result.percentileMillis(99),
+                    result.percentileMillis(99.9), result.percentileMillis(100));
+            violations.addAll(scenario.violations(entry.getKey(), result));
+        }
+        System.out.printf("Vazão total: %.1f req/s%n", total / seconds);
+
+        long backupStart = backupStartedAt;
+        long backupEnd = backupEndedAt != 0 ? backupEndedAt : System.nanoTime();
+        if (backupStart != 0) {
+            double window = (backupEnd - backupStart) / 1e9;
+            System.out.printf("Escritas durante o backup (%.1f s):%n", window);
+            for (Map.Entry<Operation, LatencyRecorder> entry : duringBackup.entrySet()) {
+                LatencyRecorder.Snapshot result = entry.getValue().snapshot(window);
+                System.out.printf("%-22s %8d %8.1f %7d %6d %6d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                        entry.getKey().key + " (backup)", result.count(), result.throughput(), result.errors(),
+                        result.rejected(), result.dropped(), result.percentileMillis(50), result.percentileMillis(90),
+                        result.percentileMillis(99), result.percentileMillis(99.9), result.percentileMillis(100));
+                violations.addAll(scenario.backupViolations(entry.getKey(), result));
+            }
+        }
+        return violations;
+    }
+}
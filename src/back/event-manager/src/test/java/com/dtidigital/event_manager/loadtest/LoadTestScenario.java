@@ -0,0 +1,158 @@
+package com.dtidigital.event_manager.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
+
+/**
+ * Cenário de carga lido de um arquivo .properties (caminho ou recurso do classpath).
+ * Ver {@code src/test/resources/loadtest/mixed.properties} para as chaves.
+ */
+final class LoadTestScenario {
+
+    private static final String[] PERCENTILES = {"p50", "p90", "p99", "p999"};
+    private static final double[] PERCENTILE_VALUES = {50, 90, 99, 99.9};
+
+    private final Properties properties;
+    private final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+
+    LoadTestScenario(Properties properties) {
+        this.properties = properties;
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith("mix.")) {
+                int weight = Integer.parseInt(properties.getProperty(name).strip());
+                if (weight > 0) {
+                    mix.put(Operation.fromKey(name.substring("mix.".length())), weight);
+                }
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("O cenário não define nenhuma operação (mix.*)");
+        }
+        if (rate() <= 0 || durationSeconds() <= 0) {
+            throw new IllegalArgumentException("load.rate e load.duration-seconds devem ser positivos");
+        }
+    }
+
+    static LoadTestScenario load(String location) throws IOException {
+        Properties properties = new Properties();
+        Path path = Path.of(location);
+        try (InputStream in = Files.exists(path)
+                ? Files.newInputStream(path)
+                : LoadTestScenario.class.getClassLoader().getResourceAsStream(location)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Cenário não encontrado: " + location);
+            }
+            properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        return new LoadTestScenario(properties);
+    }
+
+    /**
+     * URL da aplicação em teste; vazia para subir a aplicação localmente sobre {@link #dataFile()}.
+     */
+    String baseUrl() {
+        return properties.getProperty("target.base-url", "").strip();
+    }
+
+    Path dataFile() {
+        return Path.of(properties.getProperty("data.file", "target/loadtest/events.db").strip());
+    }
+
+    int dataEvents() {
+        return intProperty("data.events", 10_000);
+    }
+
+    long dataSeed() {
+        return Long.parseLong(properties.getProperty("data.seed", "42").strip());
+    }
+
+    double rate() {
+        return Double.parseDouble(properties.getProperty("load.rate", "100").strip());
+    }
+
+    int durationSeconds() {
+        return intProperty("load.duration-seconds", 60);
+    }
+
+    int warmupSeconds() {
+        return intProperty("load.warmup-seconds", 10);
+    }
+
+    int maxInFlight() {
+        return intProperty("load.max-in-flight", 1_000);
+    }
+
+    /**
+     * Segundos após o início da medição em que um backup online é disparado; negativo para não disparar.
+     */
+    int backupAtSeconds() {
+        return intProperty("load.backup-at-seconds", -1);
+    }
+
+    Map<Operation, Integer> mix() {
+        return mix;
+    }
+
+    /**
+     * Compara o resultado com os SLOs ({@code slo.<operação>.<p50|p90|p99|p999>-ms} e
+     * {@code slo.<operação>.error-rate}, com {@code slo.default.*} como fallback).
+     *
+     * @return descrição de cada violação; vazia quando tudo passou
+     */
+    List<String> violations(Operation operation, LatencyRecorder.Snapshot result) {
+        return violations(operation.key, result, metric -> slo(operation, metric));
+    }
+
+    /**
+     * Compara as escritas feitas enquanto o backup rodava com {@code slo.backup.*}.
+     */
+    List<String> backupViolations(Operation operation, LatencyRecorder.Snapshot result) {
+        return violations(operation.key + " (backup)", result, metric -> {
+            String value = properties.getProperty("slo.backup." + metric);
+            return value == null || value.isBlank() ? null : value.strip();
+        });
+    }
+
+    private List<String> violations(String label, LatencyRecorder.Snapshot result, Function<String, String> slo) {
+        List<String> violations = new ArrayList<>();
+        if (result.count() == 0 && result.dropped() == 0) {
+            return violations;
+        }
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            String limit = slo.apply(PERCENTILES[i] + "-ms");
+            if (limit == null) {
+                continue;
+            }
+            double value = result.percentileMillis(PERCENTILE_VALUES[i]);
+            if (value > Double.parseDouble(limit)) {
+                violations.add(String.format("%s: %s = %.1f ms (limite %s ms)", label, PERCENTILES[i], value, limit));
+            }
+        }
+        String errorRate = slo.apply("error-rate");
+        if (errorRate != null && result.errorRate() > Double.parseDouble(errorRate)) {
+            violations.add(String.format("%s: taxa de erro = %.4f (limite %s)", label, result.errorRate(), errorRate));
+        }
+        return violations;
+    }
+
+    private String slo(Operation operation, String metric) {
+        String value = properties.getProperty("slo." + operation.key + "." + metric,
+                properties.getProperty("slo.default." + metric));
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+
+    private int intProperty(String name, int defaultValue) {
+        String value = properties.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.strip());
+    }
+}
@@ -0,0 +1,78 @@
+package com.dtidigital.event_manager.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadTestScenarioTest {
+
+    @Test
+    void testPercentilesAndErrorRate() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 1; i <= 100; i++) {
+            recorder.record(i * 1000L);
+        }
+        recorder.error(500_000);
+        recorder.dropped();
+
+        LatencyRecorder.Snapshot result = recorder.snapshot(10);
+
+        assertEquals(51.0, result.percentileMillis(50));
+        assertEquals(100.0, result.percentileMillis(99));
+        assertEquals(500.0, result.percentileMillis(100));
+        assertEquals(2.0 / 102, result.errorRate(), 1e-9);
+        assertEquals(10.1, result.throughput(), 1e-9);
+    }
+
+    @Test
+    void testViolationsUseOperationSloBeforeDefault() {
+        Properties properties = new Properties();
+        properties.setProperty("mix.get-by-id", "1");
+        properties.setProperty("mix.suggest", "1");
+        properties.setProperty("slo.default.p99-ms", "200");
+        properties.setProperty("slo.default.error-rate", "0.01");
+        properties.setProperty("slo.suggest.p99-ms", "20");
+        LoadTestScenario scenario = new LoadTestScenario(properties);
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 1; i <= 100; i++) {
+            recorder.record(50_000);
+        }
+        LatencyRecorder.Snapshot result = recorder.snapshot(1);
+
+        assertTrue(scenario.violations(Operation.GET_BY_ID, result).isEmpty());
+        List<String> violations = scenario.violations(Operation.SUGGEST, result);
+        assertEquals(1, violations.size());
+        assertTrue(violations.get(0).startsWith("suggest: p99"));
+    }
+
+    @Test
+    void testBackupViolationsUseBackupSlo() {
+        Properties properties = new Properties();
+        properties.setProperty("mix.create", "1");
+        properties.setProperty("slo.default.p99-ms", "20");
+        properties.setProperty("slo.backup.p99-ms", "100");
+        LoadTestScenario scenario = new LoadTestScenario(properties);
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 1; i <= 100; i++) {
+            recorder.record(50_000);
+        }
+        LatencyRecorder.Snapshot result = recorder.snapshot(1);
+
+        assertEquals(1, scenario.violations(Operation.CREATE, result).size());
+        assertTrue(scenario.backupViolations(Operation.CREATE, result).isEmpty());
+        assertEquals(-1, scenario.backupAtSeconds());
+    }
+
+    @Test
+    void testRejectsUnknownOperation() {
+        Properties properties = new Properties();
+        properties.setProperty("mix.unknown", "1");
+
+        assertThrows(IllegalArgumentException.class, () -> new LoadTestScenario(properties));
+    }
+}
@@ -0,0 +1,115 @@
+package com.dtidigital.event_manager.loadtest;
+
+import com.dtidigital.event_manager.enums.EventCategory;
+import com.dtidigital.event_manager.enums.SuggestField;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Operações do workload misto. O nome é a chave usada no cenário ({@code mix.<nome>}, {@code slo.<nome>.*}).
+ */
+enum Operation {
+
+    GET_BY_ID("get-by-id", 200),
+    SUMMARY_DATE_RANGE("summary-date-range", 200),
+    UPCOMING_BY_CATEGORY("upcoming-by-category", 200),
+    SEARCH_NAME("search-name", 200),
+    SEARCH_NEAR("search-near", 200),
+    SUGGEST("suggest", 200),
+    CREATE("create", 201),
+    UPDATE("update", 200),
+    DELETE("delete", 204);
+
+    private static final String[] TERMS = {"java", "react", "dados", "cloud", "devops", "ux", "mobile", "testes"};
+    private static final String[] PREFIXES = {"c", "co", "com", "me", "meet", "ins", "tec", "la", "aud", "hub"};
+    // Centros usados pelo SyntheticDataGenerator
+    private static final double[][] POINTS = {{-19.9167, -43.9345}, {-23.5505, -46.6333}, {-22.9068, -43.1729},
+            {-15.7939, -47.8828}, {-25.4284, -49.2733}};
+
+    final String key;
+    final int expectedStatus;
+
+    Operation(String key, int expectedStatus) {
+        this.key = key;
+        this.expectedStatus = expectedStatus;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Operação desconhecida no cenário: " + key);
+    }
+
+    boolean isWrite() {
+        return this == CREATE || this == UPDATE || this == DELETE;
+    }
+
+    /**
+     * Monta a requisição; {@code id} é o evento alvo em GET_BY_ID, UPDATE e DELETE.
+     */
+    HttpRequest request(URI base, long id) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate today = LocalDate.now();
+        return switch (this) {
+            case GET_BY_ID -> get(base, "/api/events/" + id);
+            case SUMMARY_DATE_RANGE -> {
+                LocalDate start = today.plusDays(random.nextInt(365));
+                yield get(base, "/api/events/summary/date-range?startDate=" + start + "&endDate=" + start.plusDays(7));
+            }
+            case UPCOMING_BY_CATEGORY -> get(base, "/api/events/upcoming/category/"
+                    + EventCategory.values()[random.nextInt(EventCategory.values().length)]);
+            case SEARCH_NAME -> get(base, "/api/events/search?name=" + pick(TERMS));
+            case SEARCH_NEAR -> {
+                double[] point = POINTS[random.nextInt(POINTS.length)];
+                yield get(base, String.format(Locale.ROOT,
+                        "/api/events/search/near?lat=%.4f&lon=%.4f&radiusKm=%d&startDate=%s&endDate=%s&limit=50",
+                        point[0], point[1], 2 + random.nextInt(10), today, today.plusDays(30)));
+            }
+            case SUGGEST -> get(base, "/api/events/suggest/"
+                    + SuggestField.values()[random.nextInt(SuggestField.values().length)]
+                    + "?limit=10&prefix=" + URLEncoder.encode(pick(PREFIXES), StandardCharsets.UTF_8));
+            case CREATE -> json(base, "/api/events", "POST", body(random, "Evento de carga"));
+            case UPDATE -> json(base, "/api/events/" + id, "PUT", body(random, "Evento atualizado"));
+            case DELETE -> HttpRequest.newBuilder(base.resolve("/api/events/" + id)).DELETE().build();
+        };
+    }
+
+    private static HttpRequest get(URI base, String path) {
+        // Como o navegador, aceita gzip; o corpo é descartado sem descompactar
+        return HttpRequest.newBuilder(base.resolve(path)).header("Accept-Encoding", "gzip").GET().build();
+    }
+
+    private static HttpRequest json(URI base, String path, String method, String body) {
+        return HttpRequest.newBuilder(base.resolve(path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String body(ThreadLocalRandom random, String name) {
+        double[] point = POINTS[random.nextInt(POINTS.length)];
+        int startHour = 8 + random.nextInt(10);
+        return String.format(Locale.ROOT, """
+                {"name":"%s %d","eventDate":"%s","startTime":"%02d:00","endTime":"%02d:30",\
+                "location":"Auditório %d","organizer":"Load Test","capacity":%d,\
+                "description":"Gerado pelo LoadDriver","price":%d.00,"category":"%s",\
+                "latitude":%.4f,"longitude":%.4f}""",
+                name, random.nextInt(1_000_000), LocalDate.now().plusDays(1 + random.nextInt(365)),
+                startHour, startHour + 1, 1 + random.nextInt(20), 10 + random.nextInt(500), 10 + random.nextInt(500),
+                EventCategory.values()[random.nextInt(EventCategory.values().length)],
+                point[0] + random.nextDouble(-0.1, 0.1), point[1] + random.nextDouble(-0.1, 0.1));
+    }
+
+    private static String pick(String[] values) {
+        return values[ThreadLocalRandom.current().nextInt(values.length)];
+    }
+}
@@ -0,0 +1,134 @@
+package com.dtidigital.event_manager.loadtest;
+
+import com.dtidigital.event_manager.EventManagerApplication;
+import com.dtidigital.event_manager.enums.EventCategory;
+import com.dtidigital.event_manager.model.Event;
+import com.dtidigital.event_manager.repository.IEventRepository;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Popula um arquivo SQLite com eventos sintéticos (determinísticos pela semente), cobrindo
+ * todas as categorias, eventos passados e futuros, cidades com coordenadas e uma distribuição
+ * desigual de organizadores, como numa base real.
+ * Grava pelo próprio repositório da aplicação, então o schema e os formatos de data são os mesmos.
+ *
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.dtidigital.event_manager.loadtest.SyntheticDataGenerator \
+ *     -Dexec.args="target/loadtest/events.db 100000"
+ * </pre>
+ */
+public final class SyntheticDataGenerator {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private static final String[][] CITIES = {
+            {"Belo Horizonte", "-19.9167", "-43.9345"},
+            {"São Paulo", "-23.5505", "-46.6333"},
+            {"Rio de Janeiro", "-22.9068", "-43.1729"},
+            {"Brasília", "-15.7939", "-47.8828"},
+            {"Curitiba", "-25.4284", "-49.2733"},
+            {"Porto Alegre", "-30.0346", "-51.2177"},
+            {"Recife", "-8.0476", "-34.8770"},
+            {"Salvador", "-12.9777", "-38.5016"},
+            {"Fortaleza", "-3.7319", "-38.5267"},
+            {"Florianópolis", "-27.5954", "-48.5480"}
+    };
+    private static final String[] VENUES = {"Auditório", "Centro de Convenções", "Hub de Inovação",
+            "Universidade", "Coworking", "Teatro", "Hotel", "Sala"};
+    private static final String[] TOPICS = {"Java", "React", "Arquitetura de Software", "DevOps", "Dados",
+            "Inteligência Artificial", "Segurança", "Cloud", "Produto", "UX", "Mobile", "Testes"};
+    private static final String[] ORGANIZER_KINDS = {"Comunidade", "Meetup", "Instituto", "Tech", "Labs"};
+
+    private SyntheticDataGenerator() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Uso: SyntheticDataGenerator <arquivo.db> <quantidade> [semente]");
+        }
+        Path database = Path.of(args[0]);
+        int count = Integer.parseInt(args[1]);
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+        seed(database, count, seed);
+    }
+
+    /**
+     * Acrescenta {@code count} eventos ao banco, criando as tabelas se preciso.
+     */
+    public static void seed(Path database, int count, long seed) {
+        database.toAbsolutePath().getParent().toFile().mkdirs();
+        SpringApplication application = new SpringApplication(EventManagerApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        try (ConfigurableApplicationContext context = application.run(
+                "--spring.datasource.url=jdbc:sqlite:" + database.toAbsolutePath(),
+                "--spring.jpa.show-sql=false",
+                // Eventos passados não passariam no @Future
+                "--spring.jpa.properties.jakarta.persistence.validation.mode=none",
+                "--events.archive.enabled=false",
+                "--events.geo.enabled=false",
+                "--events.suggest.enabled=false",
+                "--events.similar.enabled=false")) {
+            IEventRepository repository = context.getBean(IEventRepository.class);
+            Random random = new Random(seed);
+            long start = System.nanoTime();
+            List<Event> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < count; i++) {
+                batch.add(event(random, i));
+                if (batch.size() == BATCH_SIZE || i == count - 1) {
+                    repository.saveAll(batch);
+                    batch.clear();
+                }
+            }
+            System.out.printf("%d eventos gravados em %s (%.1f s)%n", count, database,
+                    (System.nanoTime() - start) / 1e9);
+        }
+    }
+
+    static Event event(Random random, int index) {
+        EventCategory[] categories = EventCategory.values();
+        EventCategory category = categories[random.nextInt(categories.length)];
+        String topic = TOPICS[random.nextInt(TOPICS.length)];
+        String[] city = CITIES[skewed(random, CITIES.length)];
+
+        Event event = new Event();
+        event.setName(category.getDisplayName() + " de " + topic + " #" + (index + 1));
+        // De 90 dias atrás a 2 anos à frente, para exercitar listagens, filtros e o arquivamento
+        event.setEventDate(LocalDate.now().plusDays(random.nextInt(820) - 90));
+        event.setStartTime(LocalTime.of(8 + random.nextInt(11), random.nextBoolean() ? 0 : 30));
+        event.setEndTime(event.getStartTime().plusHours(1 + random.nextInt(4)));
+        event.setLocation(VENUES[random.nextInt(VENUES.length)] + " " + (1 + random.nextInt(50)) + ", " + city[0]);
+        event.setOrganizer(ORGANIZER_KINDS[random.nextInt(ORGANIZER_KINDS.length)] + " " + topic + " "
+                + (1 + skewed(random, 2_000)));
+        event.setCapacity(10 + random.nextInt(990));
+        if (random.nextInt(4) > 0) {
+            event.setDescription("Encontro sobre " + topic + " em " + city[0]
+                    + ": palestras, oficinas práticas e networking entre profissionais da área.");
+        }
+        // Um em cada cinco eventos é gratuito (sem preço)
+        if (random.nextInt(5) > 0) {
+            event.setPrice(BigDecimal.valueOf(1_000 + random.nextInt(100_000), 2));
+        }
+        event.setCategory(category);
+        // Espalhados num raio de ~20 km do centro da cidade
+        event.setLatitude(Double.parseDouble(city[1]) + (random.nextDouble() - 0.5) * 0.36);
+        event.setLongitude(Double.parseDouble(city[2]) + (random.nextDouble() - 0.5) * 0.36);
+        return event;
+    }
+
+    // Índice em [0, bound) com os primeiros valores bem mais frequentes que os últimos
+    private static int skewed(Random random, int bound) {
+        double value = random.nextDouble();
+        return (int) (bound * value * value);
+    }
+}
@@ -0,0 +1,168 @@
+package com.dtidigital.event_manager.repository;
+
+import com.dtidigital.event_manager.enums.EventCategory;
+import com.dtidigital.event_manager.enums.ShardKey;
+import com.dtidigital.event_manager.model.Event;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class ShardedEventRepositoryTest {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 10);
+
+    @TempDir
+    Path folder;
+
+    private IEventRepository eventRepository;
+    private ShardedEventRepository repository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        eventRepository = mock(IEventRepository.class);
+        repository = repository(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.stop();
+    }
+
+    @Test
+    void testIdCarriesShardChosenByOrganizer() {
+        Set<Integer> used = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            Event event = repository.save(event("Evento " + i, "Organizador " + i, EventCategory.MEETUP, DATE));
+            int shard = repository.shardOf(event.getId());
+            assertEquals(repository.shardFor(event), shard);
+            used.add(shard);
+
+            Event loaded = repository.findById(event.getId()).orElseThrow();
+            assertEquals("Evento " + i, loaded.getName());
+            assertEquals(LocalTime.of(9, 0), loaded.getStartTime());
+            assertEquals(new BigDecimal("50.00"), loaded.getPrice());
+            assertNull(loaded.getLatitude());
+        }
+        assertEquals(4, used.size());
+        assertFalse(repository.existsById(999_999L));
+    }
+
+    @Test
+    void testQueriesGatherAllShardsInIdOrder() {
+        for (int i = 0; i < 30; i++) {
+            repository.save(event("Evento " + i, "Organizador " + i,
+                    i % 3 == 0 ? EventCategory.WORKSHOP : EventCategory.MEETUP, DATE.plusDays(i)));
+        }
+
+        List<Event> all = repository.findAll();
+        assertEquals(30, all.size());
+        for (int i = 1; i < all.size(); i++) {
+            assertTrue(all.get(i - 1).getId() < all.get(i).getId());
+        }
+        assertEquals(10, repository.findByCategory(EventCategory.WORKSHOP).size());
+        assertEquals(5, repository.findByEventDateBetween(DATE.plusDays(10), DATE.plusDays(14)).size());
+        assertEquals(5, repository.findSummariesByDateRange(DATE.plusDays(10), DATE.plusDays(14)).size());
+        assertEquals(3, repository.findByEventDateBefore(DATE.plusDays(20), 3).size());
+        assertEquals(List.of(all.get(0).getId(), all.get(1).getId(), all.get(2).getId()),
+                repository.findByEventDateBefore(DATE.plusDays(20), 3).stream().map(Event::getId).toList());
+
+        Long id = all.get(17).getId();
+        assertTrue(repository.findByNameOrId(String.valueOf(id)).stream().anyMatch(e -> e.getId().equals(id)));
+        assertEquals(1, repository.findByNameContainingIgnoreCase("EVENTO 17").size());
+        assertEquals(2, repository.findAllById(List.of(all.get(3).getId(), all.get(4).getId(), 999_999L)).size());
+    }
+
+    @Test
+    void testUpdateStaysInShardAndDeleteRemoves() {
+        Event event = repository.save(event("Workshop", "DTI Digital", EventCategory.WORKSHOP, DATE));
+        Long id = event.getId();
+
+        event.setOrganizer("Outro organizador");
+        event.setLatitude(-19.92);
+        event.setLongitude(-43.94);
+        repository.save(event);
+
+        Event loaded = repository.findById(id).orElseThrow();
+        assertEquals("Outro organizador", loaded.getOrganizer());
+        assertEquals(-19.92, loaded.getLatitude());
+        assertEquals(1, repository.findAllLocations().size());
+
+        repository.deleteById(id);
+        assertFalse(repository.existsById(id));
+        assertTrue(repository.findAll().isEmpty());
+    }
+
+    @Test
+    void testShardCountCannotChange() throws Exception {
+        repository.stop();
+
+        assertThrows(IllegalStateException.class, () -> repository(3));
+        repository = repository(4);
+    }
+
+    @Test
+    void testMainTableIsMovedKeepingIds() throws Exception {
+        repository.stop();
+        Event first = event("Antigo", "DTI Digital", EventCategory.WORKSHOP, DATE);
+        first.setId(5L);
+        Event second = event("Outro antigo", "Tech Events", EventCategory.MEETUP, DATE.plusDays(1));
+        second.setId(6L);
+        second.setLatitude(-19.92);
+        // 21 está arquivado ou só no histórico: não pode ser reaproveitado
+        when(eventRepository.findMaxUsedId()).thenReturn(21L);
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(first, second), List.of());
+
+        repository = repository(4);
+
+        assertEquals("Antigo", repository.findById(5L).orElseThrow().getName());
+        assertEquals(-19.92, repository.findById(6L).orElseThrow().getLatitude());
+        verify(eventRepository).deleteAllByIdInBatch(List.of(5L, 6L));
+        for (int i = 0; i < 8; i++) {
+            assertTrue(repository.save(event("Novo " + i, "Organizador " + i, EventCategory.MEETUP, DATE)).getId() > 21);
+        }
+
+        // Reiniciar não move nem reserva nada de novo
+        repository.stop();
+        when(eventRepository.findMaxUsedId()).thenReturn(null);
+        repository = repository(4);
+        assertEquals(10, repository.findAll().size());
+    }
+
+    private ShardedEventRepository repository(int shards) throws Exception {
+        ShardedEventRepository sharded = new ShardedEventRepository();
+        ReflectionTestUtils.setField(sharded, "shards", shards);
+        ReflectionTestUtils.setField(sharded, "directory", folder.toString());
+        ReflectionTestUtils.setField(sharded, "key", ShardKey.ORGANIZER);
+        ReflectionTestUtils.setField(sharded, "poolSize", 2);
+        ReflectionTestUtils.setField(sharded, "eventRepository", eventRepository);
+        try {
+            sharded.start();
+        } catch (Exception e) {
+            sharded.stop();
+            throw e;
+        }
+        return sharded;
+    }
+
+    private static Event event(String name, String organizer, EventCategory category, LocalDate date) {
+        return new Event(null, name, date, LocalTime.of(9, 0), LocalTime.of(12, 0), "Auditório",
+                organizer, 50, null, new BigDecimal("50.00"), category);
+    }
+}
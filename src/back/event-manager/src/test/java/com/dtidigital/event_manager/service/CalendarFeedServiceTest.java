@@ -0,0 +1,150 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.enums.EventCategory;
+import com.dtidigital.event_manager.enums.EventChangeType;
+import com.dtidigital.event_manager.exception.EventValidationException;
+import com.dtidigital.event_manager.model.Event;
+import com.dtidigital.event_manager.service.CalendarFeedService.Feed;
+import com.dtidigital.event_manager.service.CalendarFeedService.FeedKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CalendarFeedServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 10);
+
+    private EventService eventService;
+    private CalendarFeedService feedService;
+
+    @BeforeEach
+    void setUp() {
+        eventService = mock(EventService.class);
+        feedService = service(1_048_576);
+    }
+
+    @Test
+    void testRendersValidIcs() throws IOException {
+        Event event = event(1L, "Workshop de Java", EventCategory.WORKSHOP, "DTI Digital");
+        event.setDescription("Spring, JPA; testes\n" + "Conteúdo prático com exemplos ".repeat(5));
+        event.setLatitude(-19.9245);
+        event.setLongitude(0.0000001);
+        when(eventService.getEventsByCategory(EventCategory.WORKSHOP)).thenReturn(List.of(event));
+
+        String ics = body(feedService.getFeed(FeedKey.category(EventCategory.WORKSHOP)));
+
+        assertTrue(ics.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+        assertTrue(ics.endsWith("END:VEVENT\r\nEND:VCALENDAR\r\n"));
+        for (String line : ics.split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, line);
+        }
+        String unfolded = ics.replace("\r\n ", "");
+        assertTrue(unfolded.contains("UID:event-1@event-manager\r\n"));
+        // 9h em São Paulo (UTC-3)
+        assertTrue(unfolded.contains("DTSTART:20300110T120000Z\r\n"));
+        assertTrue(unfolded.contains("DTEND:20300110T150000Z\r\n"));
+        assertTrue(unfolded.contains("DESCRIPTION:Spring\\, JPA\\; testes\\nConteúdo"));
+        assertTrue(unfolded.contains("\\n\\nOrganizador: DTI Digital\r\n"));
+        assertTrue(unfolded.contains("X-WR-CALNAME:Eventos - WORKSHOP\r\n"));
+        assertTrue(unfolded.contains("GEO:-19.9245;0.0000001\r\n"));
+    }
+
+    @Test
+    void testChangeOnlyTouchesMatchingFeeds() throws IOException {
+        when(eventService.getEventsByCategory(any())).thenReturn(List.of());
+        FeedKey workshops = FeedKey.category(EventCategory.WORKSHOP);
+        FeedKey meetups = FeedKey.category(EventCategory.MEETUP);
+        Feed workshopFeed = feedService.getFeed(workshops);
+        Feed meetupFeed = feedService.getFeed(meetups);
+        assertSame(workshopFeed, feedService.getFeed(workshops));
+
+        Event event = event(7L, "Oficina", EventCategory.WORKSHOP, "DTI Digital");
+        feedService.onEventChange(new EventChange(EventChangeType.CREATED, 7L, null, event));
+
+        Feed updated = feedService.getFeed(workshops);
+        assertNotEquals(workshopFeed.etag(), updated.etag());
+        assertEquals(1, updated.eventCount());
+        assertTrue(body(updated).contains("UID:event-7@event-manager"));
+        assertSame(meetupFeed, feedService.getFeed(meetups));
+
+        // Mudou de categoria: sai de um feed e entra no outro
+        Event moved = event(7L, "Oficina", EventCategory.MEETUP, "DTI Digital");
+        feedService.onEventChange(new EventChange(EventChangeType.UPDATED, 7L, event, moved));
+        assertEquals(0, feedService.getFeed(workshops).eventCount());
+        assertEquals(1, feedService.getFeed(meetups).eventCount());
+        assertTrue(feedService.getFeed(workshops).lastModified().isAfter(workshopFeed.lastModified()));
+
+        feedService.onEventChange(new EventChange(EventChangeType.ARCHIVED, 7L, moved, null));
+        assertEquals(0, feedService.getFeed(meetups).eventCount());
+    }
+
+    @Test
+    void testChangesDuringLoadAreReplayed() {
+        Event deleted = event(1L, "Removido", EventCategory.WORKSHOP, "DTI Digital");
+        Event kept = event(2L, "Mantido", EventCategory.WORKSHOP, "DTI Digital");
+        when(eventService.getEventsByOrganizer("dti digital")).thenAnswer(invocation -> {
+            feedService.onEventChange(new EventChange(EventChangeType.DELETED, 1L, null, null));
+            return List.of(deleted, kept, event(3L, "Outro", EventCategory.WORKSHOP, "DTI Digital Labs"));
+        });
+
+        Feed feed = feedService.getFeed(FeedKey.organizer(" dti digital "));
+
+        assertEquals(1, feed.eventCount());
+    }
+
+    @Test
+    void testLargeFeedsAreWrittenInParts() throws IOException {
+        feedService = service(1_024);
+        List<Event> events = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            events.add(event(id, "Evento " + id, EventCategory.MEETUP, "DTI Digital"));
+        }
+        when(eventService.getEventsByDateRange(DATE, DATE.plusDays(30))).thenReturn(events);
+
+        Feed feed = feedService.getFeed(FeedKey.dateRange(DATE, DATE.plusDays(30)));
+
+        assertEquals(52, feed.parts().size());
+        String ics = body(feed);
+        assertEquals(feed.contentLength(), ics.getBytes(StandardCharsets.UTF_8).length);
+        assertTrue(ics.indexOf("UID:event-2@") < ics.indexOf("UID:event-10@"));
+    }
+
+    @Test
+    void testInvalidKeys() {
+        assertThrows(EventValidationException.class, () -> FeedKey.organizer(" "));
+        assertThrows(EventValidationException.class, () -> FeedKey.dateRange(DATE, DATE.minusDays(1)));
+    }
+
+    private CalendarFeedService service(int maxBufferedBytes) {
+        CalendarFeedService service = new CalendarFeedService();
+        ReflectionTestUtils.setField(service, "eventService", eventService);
+        ReflectionTestUtils.setField(service, "maxFeeds", 10);
+        ReflectionTestUtils.setField(service, "maxBufferedBytes", maxBufferedBytes);
+        ReflectionTestUtils.setField(service, "timeZone", "America/Sao_Paulo");
+        service.start();
+        return service;
+    }
+
+    private static String body(Feed feed) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        feed.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Event event(Long id, String name, EventCategory category, String organizer) {
+        return new Event(id, name, DATE, LocalTime.of(9, 0), LocalTime.of(12, 0), "Auditório DTI",
+                organizer, 50, null, new BigDecimal("50.00"), category);
+    }
+}
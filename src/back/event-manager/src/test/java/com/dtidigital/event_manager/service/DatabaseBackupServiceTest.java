@@ -0,0 +1,172 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.dto.BackupStatus;
+import com.dtidigital.event_manager.enums.BackupState;
+import com.dtidigital.event_manager.exception.EventValidationException;
+import com.dtidigital.event_manager.repository.ShardedEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DatabaseBackupServiceTest {
+
+    @TempDir
+    Path folder;
+
+    private DatabaseBackupService backupService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DataSource dataSource = database(folder.resolve("events.db"), 1_000);
+
+        backupService = new DatabaseBackupService();
+        ReflectionTestUtils.setField(backupService, "dataSource", dataSource);
+        ReflectionTestUtils.setField(backupService, "directory", "");
+        ReflectionTestUtils.setField(backupService, "keep", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        backupService.stop();
+    }
+
+    @Test
+    void testBackupCopiesDatabaseNextToIt() throws Exception {
+        assertNull(backupService.getStatus());
+
+        BackupStatus started = backupService.startBackup();
+        assertTrue(started.file().startsWith("events-"));
+        BackupStatus status = awaitBackup();
+
+        assertEquals(BackupState.COMPLETED, status.state());
+        assertEquals(100, status.percent());
+        assertTrue(status.bytesWritten() > 0);
+        assertNotNull(status.finishedAt());
+        assertEquals(List.of(started.file()), backupService.listBackups());
+        assertEquals(1_000, countEvents(folder.resolve("backups").resolve(started.file())));
+    }
+
+    @Test
+    void testRestoreIntoFreshFile() throws Exception {
+        String backup = backupService.startBackup().file();
+        awaitBackup();
+
+        Path restored = backupService.restore(backup, "restored.db");
+
+        assertEquals(1_000, countEvents(restored));
+        assertThrows(EventValidationException.class, () -> backupService.restore(backup, "restored.db"));
+        assertThrows(EventValidationException.class, () -> backupService.restore(backup, "../events.db"));
+        assertThrows(EventValidationException.class, () -> backupService.restore("missing.db", "other.db"));
+    }
+
+    @Test
+    void testKeepsOnlyNewestBackups() throws Exception {
+        Path backups = Files.createDirectories(folder.resolve("backups"));
+        Files.createFile(backups.resolve("events-20200101-000000.db"));
+        Files.createFile(backups.resolve("events-20200102-000000.db"));
+        Files.createFile(backups.resolve("restored.db"));
+
+        String newest = backupService.startBackup().file();
+        awaitBackup();
+
+        assertEquals(List.of(newest, "events-20200102-000000.db"), backupService.listBackups());
+        assertTrue(Files.exists(backups.resolve("restored.db")));
+    }
+
+    @Test
+    void testBackupAndRestoreIncludeShards() throws Exception {
+        Path shards = Files.createDirectories(folder.resolve("shards"));
+        ShardedEventRepository shardedRepository = mock(ShardedEventRepository.class);
+        when(shardedRepository.shardDataSources()).thenReturn(List.of(
+                database(shards.resolve("events-0.db"), 300), database(shards.resolve("events-1.db"), 200)));
+        ReflectionTestUtils.setField(backupService, "shardedRepository", shardedRepository);
+
+        String backup = backupService.startBackup().file();
+        BackupStatus status = awaitBackup();
+
+        assertEquals(BackupState.COMPLETED, status.state());
+        assertEquals(List.of(backup), backupService.listBackups());
+        Path backupShards = folder.resolve("backups").resolve(backup.replace(".db", "-shards"));
+        assertEquals(300, countEvents(backupShards.resolve("events-0.db")));
+        assertEquals(200, countEvents(backupShards.resolve("events-1.db")));
+        assertTrue(status.bytesWritten() > Files.size(folder.resolve("backups").resolve(backup)));
+
+        Path restored = backupService.restore(backup, "restored.db");
+
+        assertEquals(1_000, countEvents(restored));
+        assertEquals(300, countEvents(folder.resolve("backups").resolve("restored-shards").resolve("events-0.db")));
+        assertEquals(200, countEvents(folder.resolve("backups").resolve("restored-shards").resolve("events-1.db")));
+    }
+
+    @Test
+    void testRetentionRemovesShardsOfOldBackups() throws Exception {
+        Path backups = Files.createDirectories(folder.resolve("backups"));
+        Files.createFile(backups.resolve("events-20200101-000000.db"));
+        Path oldShards = Files.createDirectories(backups.resolve("events-20200101-000000-shards"));
+        Files.createFile(oldShards.resolve("events-0.db"));
+        ReflectionTestUtils.setField(backupService, "keep", 1);
+
+        backupService.startBackup();
+        awaitBackup();
+
+        assertFalse(Files.exists(backups.resolve("events-20200101-000000.db")));
+        assertFalse(Files.exists(oldShards));
+    }
+
+    private BackupStatus awaitBackup() throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            BackupStatus status = backupService.getStatus();
+            if (status.state() != BackupState.RUNNING) {
+                return status;
+            }
+            Thread.sleep(50);
+        }
+        fail("O backup não terminou");
+        return null;
+    }
+
+    private static DataSource database(Path file, int events) throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:sqlite:" + file);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA journal_mode=WAL");
+            statement.execute("CREATE TABLE events (id INTEGER PRIMARY KEY, name TEXT)");
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO events (name) VALUES (?)")) {
+                for (int i = 0; i < events; i++) {
+                    insert.setString(1, "Evento " + i);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+        return dataSource;
+    }
+
+    private static int countEvents(Path database) throws Exception {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + database);
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COUNT(*) FROM events")) {
+            result.next();
+            return result.getInt(1);
+        }
+    }
+}
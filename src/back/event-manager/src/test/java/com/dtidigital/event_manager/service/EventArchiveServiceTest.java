@@ -0,0 +1,68 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.model.Event;
+import com.dtidigital.event_manager.repository.IArchivedEventRepository;
+import com.dtidigital.event_manager.repository.IEventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventArchiveServiceTest {
+
+    @Mock
+    private IEventRepository eventRepository;
+
+    @Mock
+    private IArchivedEventRepository archivedEventRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private EventArchiveService archiveService;
+
+    @Test
+    void testArchiveBatch_MovesPastEvents() {
+        LocalDate cutoff = LocalDate.now();
+        Event pastEvent = new Event();
+        pastEvent.setId(1L);
+        pastEvent.setName("Past Event");
+        pastEvent.setEventDate(cutoff.minusDays(10));
+        List<Event> batch = Arrays.asList(pastEvent);
+        when(eventRepository.findByEventDateBefore(eq(cutoff), any(Pageable.class))).thenReturn(batch);
+
+        int moved = archiveService.archiveBatch(cutoff, 100);
+
+        assertEquals(1, moved);
+        verify(archivedEventRepository, times(1)).saveAll(anyList());
+        verify(eventRepository, times(1)).deleteAllInBatch(batch);
+    }
+
+    @Test
+    void testArchiveBatch_NothingToArchive() {
+        LocalDate cutoff = LocalDate.now();
+        when(eventRepository.findByEventDateBefore(eq(cutoff), any(Pageable.class))).thenReturn(Collections.emptyList());
+
+        int moved = archiveService.archiveBatch(cutoff, 100);
+
+        assertEquals(0, moved);
+        verify(archivedEventRepository, never()).saveAll(anyList());
+        verify(eventRepository, never()).deleteAllInBatch(anyList());
+    }
+}
@@ -0,0 +1,167 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.enums.EventCategory;
+import com.dtidigital.event_manager.enums.EventChangeType;
+import com.dtidigital.event_manager.exception.EventNotFoundException;
+import com.dtidigital.event_manager.model.Event;
+import com.dtidigital.event_manager.model.EventRevision;
+import com.dtidigital.event_manager.repository.IEventRevisionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EventHistoryRecorderTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 10, 9, 0);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private IEventRevisionRepository revisionRepository;
+    private EventHistoryRecorder recorder;
+    private final List<EventRevision> saved = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        revisionRepository = mock(IEventRevisionRepository.class);
+        when(revisionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            saved.addAll((List<EventRevision>) invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        recorder = new EventHistoryRecorder();
+        ReflectionTestUtils.setField(recorder, "revisionRepository", revisionRepository);
+        ReflectionTestUtils.setField(recorder, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(recorder, "transactionTemplate",
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    void testFirstRevisionIsCompleteAndNextOnlyHasChangedFields() throws Exception {
+        Event created = event(new BigDecimal("100.00"));
+        Event updated = event(new BigDecimal("120.00"));
+        updated.setCapacity(80);
+
+        recorder.write(List.of(
+                pending(EventChangeType.CREATED, null, created, "ana", T0),
+                pending(EventChangeType.UPDATED, created, updated, "bruno", T0.plusHours(1))));
+
+        assertEquals(2, saved.size());
+        assertEquals(1, saved.get(0).getRevision());
+        assertEquals("ana", saved.get(0).getAuthor());
+        JsonNode first = objectMapper.readTree(saved.get(0).getChanges());
+        assertEquals("Workshop", first.get("name").get(1).asText());
+        assertEquals("2026-03-01", first.get("eventDate").get(1).asText());
+        assertFalse(first.has("latitude"));
+
+        assertEquals(2, saved.get(1).getRevision());
+        JsonNode second = objectMapper.readTree(saved.get(1).getChanges());
+        assertEquals(2, second.size());
+        assertEquals(0, new BigDecimal("100").compareTo(second.get("price").get(0).decimalValue()));
+        assertEquals(0, new BigDecimal("120").compareTo(second.get("price").get(1).decimalValue()));
+        assertEquals(80, second.get("capacity").get(1).asInt());
+    }
+
+    @Test
+    void testContinuesNumberingFromStoredRevision() {
+        when(revisionRepository.findLastRevisions(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 3}));
+
+        recorder.write(List.of(pending(EventChangeType.DELETED, null, null, null, T0)));
+
+        assertEquals(4, saved.get(0).getRevision());
+        assertEquals("{}", saved.get(0).getChanges());
+    }
+
+    @Test
+    void testPriceScaleIsNotAChange() {
+        when(revisionRepository.findLastRevisions(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 1}));
+
+        recorder.write(List.of(pending(EventChangeType.UPDATED,
+                event(new BigDecimal("100.0")), event(new BigDecimal("100.00")), null, T0)));
+
+        assertEquals("{}", saved.get(0).getChanges());
+    }
+
+    @Test
+    void testReconstructsEventAsOfTimestamp() {
+        Event created = event(new BigDecimal("100.00"));
+        Event updated = event(new BigDecimal("120.00"));
+        recorder.write(List.of(
+                pending(EventChangeType.CREATED, null, created, null, T0),
+                pending(EventChangeType.UPDATED, created, updated, null, T0.plusHours(1)),
+                pending(EventChangeType.DELETED, null, null, null, T0.plusHours(2))));
+
+        EventHistoryService historyService = historyService();
+
+        Event original = historyService.getEventAsOf(1L, T0.plusMinutes(30));
+        assertEquals(1L, original.getId());
+        assertEquals(0, new BigDecimal("100").compareTo(original.getPrice()));
+        assertEquals(LocalTime.of(9, 0), original.getStartTime());
+        assertEquals(EventCategory.WORKSHOP, original.getCategory());
+
+        assertEquals(0, new BigDecimal("120").compareTo(historyService.getEventAsOf(1L, T0.plusHours(1)).getPrice()));
+        assertThrows(EventNotFoundException.class, () -> historyService.getEventAsOf(1L, T0.plusHours(3)));
+        assertThrows(EventNotFoundException.class, () -> historyService.getEventAsOf(1L, T0.minusDays(1)));
+    }
+
+    @Test
+    void testCreatedAfterArchiveStartsNewChain() {
+        Event archived = event(new BigDecimal("100.00"));
+        archived.setLatitude(-19.92);
+        archived.setLongitude(-43.94);
+        Event reused = event(new BigDecimal("80.00"));
+        reused.setName("Outro evento");
+        recorder.write(List.of(
+                pending(EventChangeType.CREATED, null, archived, null, T0),
+                pending(EventChangeType.ARCHIVED, archived, null, null, T0.plusHours(1))));
+        when(revisionRepository.findLastRevisions(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 2}));
+        recorder.write(List.of(pending(EventChangeType.CREATED, null, reused, null, T0.plusHours(2))));
+
+        assertEquals(List.of(1, 2, 3), saved.stream().map(EventRevision::getRevision).toList());
+        EventHistoryService historyService = historyService();
+        assertEquals(-19.92, historyService.getEventAsOf(1L, T0.plusHours(1)).getLatitude());
+        Event current = historyService.getEventAsOf(1L, T0.plusHours(2));
+        assertEquals("Outro evento", current.getName());
+        assertNull(current.getLatitude());
+        assertNull(current.getLongitude());
+    }
+
+    private EventHistoryService historyService() {
+        EventHistoryService historyService = new EventHistoryService();
+        ReflectionTestUtils.setField(historyService, "revisionRepository", revisionRepository);
+        ReflectionTestUtils.setField(historyService, "objectMapper", objectMapper);
+        when(revisionRepository.findByEventIdAndChangedAtLessThanEqualOrderByRevisionAsc(eq(1L), any()))
+                .thenAnswer(invocation -> {
+                    LocalDateTime at = invocation.getArgument(1);
+                    return saved.stream().filter(revision -> !revision.getChangedAt().isAfter(at)).toList();
+                });
+        return historyService;
+    }
+
+    private static EventHistoryRecorder.PendingRevision pending(EventChangeType type, Event before, Event after,
+                                                                String author, LocalDateTime at) {
+        return new EventHistoryRecorder.PendingRevision(new EventChange(type, 1L, before, after, author), at);
+    }
+
+    private static Event event(BigDecimal price) {
+        return new Event(1L, "Workshop", LocalDate.of(2026, 3, 1), LocalTime.of(9, 0), LocalTime.of(12, 0),
+                "Auditório DTI", "DTI Digital", 50, null, price, EventCategory.WORKSHOP);
+    }
+}
@@ -0,0 +1,127 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.config.SqliteTransactionConfig;
+import com.dtidigital.event_manager.enums.EventCategory;
+import com.dtidigital.event_manager.model.Event;
+import com.dtidigital.event_manager.repository.IEventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Escritas concorrentes pelo EventService num arquivo SQLite em WAL, cada uma na sua conexão do pool,
+ * com as transações de escrita abertas por {@link com.dtidigital.event_manager.config.SqliteJpaDialect}.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EventService.class, SqliteTransactionConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EventServiceSqliteTest {
+
+    private static final int THREADS = 8;
+    private static final int UPDATES_PER_THREAD = 25;
+
+    @TempDir
+    static Path folder;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + folder.resolve("events.db"));
+    }
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private IEventRepository eventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void testConcurrentUpdatesAndDeletesWaitForTheWriteLock() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            ids.add(eventService.saveEvent(event("Evento " + i)).getId());
+        }
+        Long removed = eventService.saveEvent(event("Removido")).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (Long id : ids) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 1; i <= UPDATES_PER_THREAD; i++) {
+                        Event details = event("Evento " + id);
+                        details.setCapacity(i);
+                        eventService.updateEvent(id, details);
+                    }
+                    return null;
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                start.await();
+                eventService.deleteEvent(removed);
+                return null;
+            }));
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (Long id : ids) {
+            assertEquals(UPDATES_PER_THREAD, eventRepository.findById(id).orElseThrow().getCapacity());
+        }
+        assertFalse(eventRepository.existsById(removed));
+    }
+
+    @Test
+    void testReadOnlyTransactionDoesNotTakeTheWriteLock() {
+        Long id = eventService.saveEvent(event("Leitura")).getId();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        readOnly.executeWithoutResult(status -> {
+            assertFalse(eventRepository.findAll().isEmpty());
+            Event details = event("Leitura");
+            details.setCapacity(7);
+            // Se a leitura segurasse o lock, a escrita esperaria o busy_timeout e falharia com SQLITE_BUSY
+            CompletableFuture.runAsync(() -> eventService.updateEvent(id, details)).join();
+        });
+
+        assertEquals(7, eventRepository.findById(id).orElseThrow().getCapacity());
+    }
+
+    private static Event event(String name) {
+        return new Event(null, name, LocalDate.now().plusDays(10), LocalTime.of(9, 0), LocalTime.of(18, 0),
+                "Belo Horizonte", "Organizador", 100, "Descrição", BigDecimal.TEN, EventCategory.CONFERENCE);
+    }
+}
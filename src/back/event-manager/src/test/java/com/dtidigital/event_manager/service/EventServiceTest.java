@@ -1,8 +1,14 @@
 package com.dtidigital.event_manager.service;
 
+import com.dtidigital.event_manager.dto.EventSummary;
+import com.dtidigital.event_manager.dto.GeoPoint;
 import com.dtidigital.event_manager.enums.EventCategory;
+import com.dtidigital.event_manager.exception.EventIndexNotReadyException;
 import com.dtidigital.event_manager.exception.EventNotFoundException;
+import com.dtidigital.event_manager.exception.EventValidationException;
+import com.dtidigital.event_manager.model.ArchivedEvent;
 import com.dtidigital.event_manager.model.Event;
+import com.dtidigital.event_manager.repository.IArchivedEventRepository;
 import com.dtidigital.event_manager.repository.IEventRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,6 +16,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -29,6 +37,18 @@ class EventServiceTest {
     @Mock
     private IEventRepository eventRepository;
 
+    @Mock
+    private IArchivedEventRepository archivedEventRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Geocoder geocoder;
+
+    @Mock
+    private EventSpatialIndex spatialIndex;
+
     @InjectMocks
     private EventService eventService;
 
@@ -190,4 +210,158 @@ class EventServiceTest {
         assertEquals(1, result.size());
         verify(eventRepository, times(1)).findByOrganizerContainingIgnoreCase(organizer);
     }
+
+    @Test
+    void testGetAllEvents_WithoutArchived() {
+        when(eventRepository.findAll()).thenReturn(Arrays.asList(testEvent));
+
+        List<Event> result = eventService.getAllEvents(false);
+
+        assertEquals(1, result.size());
+        verify(archivedEventRepository, never()).findAll();
+    }
+
+    @Test
+    void testGetAllEvents_IncludeArchived() {
+        Event pastEvent = new Event();
+        pastEvent.setId(2L);
+        pastEvent.setName("Past Event");
+        pastEvent.setEventDate(LocalDate.now().minusYears(1));
+        when(eventRepository.findAll()).thenReturn(Arrays.asList(testEvent));
+        when(archivedEventRepository.findAll()).thenReturn(Arrays.asList(ArchivedEvent.from(pastEvent)));
+
+        List<Event> result = eventService.getAllEvents(true);
+
+        assertEquals(2, result.size());
+        assertEquals(2L, result.get(0).getId());
+        assertEquals("Past Event", result.get(0).getName());
+        assertEquals(testEvent, result.get(1));
+    }
+
+    @Test
+    void testGetEventSummariesByCategory() {
+        EventSummary summary = new EventSummary(1L, "Test Event", testEvent.getEventDate(),
+                testEvent.getStartTime(), testEvent.getEndTime(), "Test Location", EventCategory.CONFERENCE);
+        when(eventRepository.findSummariesByCategory(EventCategory.CONFERENCE)).thenReturn(Arrays.asList(summary));
+
+        List<EventSummary> result = eventService.getEventSummariesByCategory(EventCategory.CONFERENCE);
+
+        assertEquals(1, result.size());
+        assertEquals("Test Event", result.get(0).name());
+        verify(eventRepository, never()).findByCategory(any());
+    }
+
+    @Test
+    void testSaveEvent_GeocodesLocation() {
+        when(geocoder.geocode("Test Location")).thenReturn(Optional.of(new GeoPoint(-19.9167, -43.9345)));
+        when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
+
+        eventService.saveEvent(testEvent);
+
+        assertEquals(-19.9167, testEvent.getLatitude());
+        assertEquals(-43.9345, testEvent.getLongitude());
+    }
+
+    @Test
+    void testSaveEvent_KeepsProvidedCoordinates() {
+        testEvent.setLatitude(-23.5505);
+        testEvent.setLongitude(-46.6333);
+        when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
+
+        eventService.saveEvent(testEvent);
+
+        assertEquals(-23.5505, testEvent.getLatitude());
+        verify(geocoder, never()).geocode(any());
+    }
+
+    @Test
+    void testUpdateEvent_RegeocodesMovedLocationWithEchoedCoordinates() {
+        testEvent.setLatitude(-19.9167);
+        testEvent.setLongitude(-43.9345);
+        // Corpo de um GET-modificar-PUT: local novo, coordenadas antigas
+        Event details = copy(testEvent);
+        details.setLocation("São Paulo");
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(geocoder.geocode("São Paulo")).thenReturn(Optional.of(new GeoPoint(-23.5505, -46.6333)));
+
+        Event result = eventService.updateEvent(1L, details);
+
+        assertEquals(-23.5505, result.getLatitude());
+        assertEquals(-46.6333, result.getLongitude());
+    }
+
+    @Test
+    void testUpdateEvent_MovedLocationNotFoundClearsCoordinates() {
+        testEvent.setLatitude(-19.9167);
+        testEvent.setLongitude(-43.9345);
+        Event details = copy(testEvent);
+        details.setLocation("Lugar desconhecido");
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(geocoder.geocode("Lugar desconhecido")).thenReturn(Optional.empty());
+
+        Event result = eventService.updateEvent(1L, details);
+
+        assertNull(result.getLatitude());
+        assertNull(result.getLongitude());
+    }
+
+    @Test
+    void testUpdateEvent_KeepsNewCoordinatesForMovedLocation() {
+        testEvent.setLatitude(-19.9167);
+        testEvent.setLongitude(-43.9345);
+        Event details = copy(testEvent);
+        details.setLocation("São Paulo");
+        details.setLatitude(-23.0);
+        details.setLongitude(-46.0);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Event result = eventService.updateEvent(1L, details);
+
+        assertEquals(-23.0, result.getLatitude());
+        verify(geocoder, never()).geocode(any());
+    }
+
+    @Test
+    void testSearchEventsNear_KeepsIndexOrder() {
+        Event farther = new Event();
+        farther.setId(2L);
+        when(spatialIndex.searchRadius(-19.9, -43.9, 10, null, null, null, 100)).thenReturn(Arrays.asList(
+                new EventSpatialIndex.Hit(2L, 1.5), new EventSpatialIndex.Hit(1L, 3.0), new EventSpatialIndex.Hit(3L, 9.0)));
+        when(eventRepository.findAllById(Arrays.asList(2L, 1L, 3L))).thenReturn(Arrays.asList(testEvent, farther));
+
+        List<Event> result = eventService.searchEventsNear(-19.9, -43.9, 10, null, null, null, 100);
+
+        assertEquals(2, result.size());
+        assertEquals(2L, result.get(0).getId());
+        assertEquals(1L, result.get(1).getId());
+    }
+
+    @Test
+    void testSearchEventsNear_InvalidParameters() {
+        assertThrows(EventValidationException.class,
+                () -> eventService.searchEventsNear(91, 0, 10, null, null, null, 100));
+        assertThrows(EventValidationException.class,
+                () -> eventService.searchEventsNear(0, 0, 0, null, null, null, 100));
+        assertThrows(EventValidationException.class,
+                () -> eventService.searchEventsInArea(10, 0, -10, 1, null, null, null, 100));
+        verifyNoInteractions(spatialIndex);
+    }
+
+    private static Event copy(Event event) {
+        return new Event(event.getId(), event.getName(), event.getEventDate(), event.getStartTime(),
+                event.getEndTime(), event.getLocation(), event.getOrganizer(), event.getCapacity(),
+                event.getDescription(), event.getPrice(), event.getCategory(), event.getLatitude(),
+                event.getLongitude());
+    }
+
+    @Test
+    void testGetSimilarEvents_IndexStillLoading() {
+        ReflectionTestUtils.setField(eventService, "similarityIndex", new EventSimilarityIndex(3, 0.1, 1000));
+        when(eventRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(EventIndexNotReadyException.class, () -> eventService.getSimilarEvents(1L, 3));
+    }
 }
@@ -0,0 +1,211 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.dto.EventText;
+import com.dtidigital.event_manager.enums.EventCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSimilarityIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 10);
+
+    private EventSimilarityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventSimilarityIndex(3, 0.1, 1000);
+        index.rebuild(Arrays.asList(
+                new EventText(1L, "Workshop de Java avançado", "Spring Boot, JPA e testes", "DTI Digital",
+                        EventCategory.WORKSHOP, DATE),
+                new EventText(2L, "Curso de Java com Spring", "Spring Boot na prática", "DTI Digital",
+                        EventCategory.TRAINING, DATE.plusDays(7)),
+                new EventText(3L, "Meetup de React", "Hooks e performance no React", "JS Community",
+                        EventCategory.MEETUP, DATE.plusDays(100)),
+                new EventText(4L, "Workshop React Hooks", "Componentes e hooks", "JS Community",
+                        EventCategory.WORKSHOP, DATE.plusDays(3)),
+                new EventText(5L, "Feira de Artesanato", null, "Prefeitura", EventCategory.OTHER,
+                        DATE.plusDays(400))));
+    }
+
+    @Test
+    void testSimilarRanksSharedTextFirst() {
+        assertEquals(2L, index.similar(1, 3).get(0).id());
+        assertEquals(4L, index.similar(3, 3).get(0).id());
+        assertEquals(List.of(1L), ids(index.similar(2, 1)));
+        assertTrue(index.similar(5, 3).isEmpty());
+        assertTrue(index.similar(99, 3).isEmpty());
+    }
+
+    @Test
+    void testScoresAreDescendingAndBounded() {
+        List<EventSimilarityIndex.Neighbor> neighbors = index.similar(4, 3);
+        for (int i = 0; i < neighbors.size(); i++) {
+            assertTrue(neighbors.get(i).score() > 0 && neighbors.get(i).score() <= 1);
+            if (i > 0) {
+                assertTrue(neighbors.get(i - 1).score() >= neighbors.get(i).score());
+            }
+        }
+    }
+
+    @Test
+    void testPutOffersNewEventToExistingOnes() {
+        index.put(new EventText(6L, "Meetup de React e Hooks", "React, hooks e performance", "JS Community",
+                EventCategory.MEETUP, DATE.plusDays(101)));
+
+        assertEquals(6L, index.similar(3, 3).get(0).id());
+        assertEquals(3L, index.similar(6, 3).get(0).id());
+    }
+
+    @Test
+    void testRemoveAndUpdateRecomputeNeighbors() {
+        index.remove(2);
+        assertFalse(ids(index.similar(1, 3)).contains(2L));
+
+        // O evento 4 deixa de falar de React: o 3 não o tem mais como primeiro vizinho
+        index.put(new EventText(4L, "Oficina de Cerâmica", "Modelagem em argila", "Ateliê Barro",
+                EventCategory.WORKSHOP, DATE.plusDays(300)));
+        assertNotEquals(4L, index.similar(3, 3).isEmpty() ? 0L : index.similar(3, 3).get(0).id());
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void testWritesDuringLoadAreReplayed() {
+        EventText created = new EventText(6L, "Workshop de Spring Boot", "Spring Boot e JPA", "DTI Digital",
+                EventCategory.WORKSHOP, DATE.plusDays(1));
+
+        // A leitura do banco devolve o estado de antes das escritas que aconteceram durante ela
+        index.rebuild(() -> {
+            List<EventText> snapshot = List.of(
+                    new EventText(1L, "Workshop de Java avançado", "Spring Boot, JPA e testes", "DTI Digital",
+                            EventCategory.WORKSHOP, DATE),
+                    new EventText(5L, "Feira de Artesanato", null, "Prefeitura", EventCategory.OTHER,
+                            DATE.plusDays(400)));
+            index.put(created);
+            index.remove(5L);
+            return snapshot;
+        });
+
+        assertEquals(2, index.size());
+        assertEquals(List.of(6L), ids(index.similar(1, 3)));
+        assertTrue(index.similar(5, 3).isEmpty());
+    }
+
+    @Test
+    void testReadyAfterFirstRebuild() {
+        EventSimilarityIndex fresh = new EventSimilarityIndex(3, 0.1, 1000);
+        assertFalse(fresh.isReady());
+
+        assertThrows(IllegalStateException.class, () -> fresh.rebuild(() -> {
+            throw new IllegalStateException("banco indisponível");
+        }));
+        assertFalse(fresh.isReady());
+
+        fresh.rebuild(List.of());
+        assertTrue(fresh.isReady());
+        assertTrue(index.isReady());
+    }
+
+    @Test
+    void testTermContributesOnlyItsHeaviestPostings() {
+        // Com um só termo o peso normalizado é 1; quanto mais termos, menor o peso de "java" no evento
+        EventSimilarityIndex capped = new EventSimilarityIndex(3, 1.0, 2);
+        capped.rebuild(List.of(
+                text(1L, "java"),
+                text(2L, "java"),
+                text(3L, "java kotlin"),
+                text(4L, "java kotlin scala groovy")));
+
+        // Os dois de maior peso em "java" são o próprio 1 e o 2; o 3 e o 4 não viram candidatos
+        assertEquals(List.of(2L), ids(capped.similar(1, 3)));
+
+        // Inserido depois da carga, entra na lista já ordenada atrás dos de mesmo peso
+        capped.put(text(5L, "java"));
+        assertEquals(List.of(1L, 2L), ids(capped.similar(5, 3)));
+        capped.remove(1L);
+        assertEquals(List.of(2L), ids(capped.similar(5, 3)));
+    }
+
+    @Test
+    void testOrganizerContributesItsClosestDates() {
+        EventSimilarityIndex capped = new EventSimilarityIndex(3, 1.0, 3);
+        capped.rebuild(List.of(
+                organized(1L, "alfa", DATE),
+                organized(2L, "bravo", DATE.plusDays(10)),
+                organized(3L, "charlie", DATE.plusDays(20)),
+                organized(4L, "delta", DATE.plusDays(30)),
+                organized(5L, "echo", DATE.plusDays(200))));
+
+        // Sem texto em comum, os candidatos são os dois eventos do organizador com data mais próxima
+        assertEquals(List.of(3L, 2L), ids(capped.similar(4, 3)));
+        assertEquals(List.of(4L, 3L), ids(capped.similar(5, 3)));
+
+        capped.put(organized(6L, "foxtrot", DATE.plusDays(25)));
+        assertEquals(List.of(3L, 4L), ids(capped.similar(6, 3)));
+    }
+
+    @Test
+    void testNeighborsStayConsistentAfterRandomWrites() {
+        Random random = new Random(7);
+        String[] topics = {"java", "react", "dados", "cloud", "devops"};
+        List<EventText> events = new ArrayList<>();
+        Set<Long> alive = new HashSet<>();
+        for (long id = 1; id <= 200; id++) {
+            events.add(randomEvent(random, topics, id));
+            alive.add(id);
+        }
+        index.rebuild(events);
+        for (int i = 0; i < 300; i++) {
+            long id = 1 + random.nextInt(250);
+            if (random.nextInt(3) == 0) {
+                index.remove(id);
+                alive.remove(id);
+            } else {
+                index.put(randomEvent(random, topics, id));
+                alive.add(id);
+            }
+        }
+
+        assertEquals(alive.size(), index.size());
+        for (long id : alive) {
+            List<EventSimilarityIndex.Neighbor> neighbors = index.similar(id, 3);
+            // Todos falam de algum dos mesmos cinco temas: ninguém fica sem vizinhos
+            assertEquals(3, neighbors.size());
+            for (int i = 0; i < neighbors.size(); i++) {
+                long neighbor = neighbors.get(i).id();
+                assertNotEquals(id, neighbor);
+                assertTrue(alive.contains(neighbor), "vizinho removido: " + neighbor);
+                if (i > 0) {
+                    assertTrue(neighbors.get(i - 1).score() >= neighbors.get(i).score());
+                }
+            }
+        }
+    }
+
+    private static EventText randomEvent(Random random, String[] topics, long id) {
+        String topic = topics[random.nextInt(topics.length)];
+        return new EventText(id, "Evento de " + topic, "Encontro sobre " + topic, "Org " + random.nextInt(20),
+                EventCategory.values()[random.nextInt(3)], DATE.plusDays(random.nextInt(60)));
+    }
+
+    private static EventText text(long id, String name) {
+        return new EventText(id, name, null, null, null, null);
+    }
+
+    private static EventText organized(long id, String name, LocalDate date) {
+        return new EventText(id, name, null, "Organizador", null, date);
+    }
+
+    private static List<Long> ids(List<EventSimilarityIndex.Neighbor> neighbors) {
+        return neighbors.stream().map(EventSimilarityIndex.Neighbor::id).toList();
+    }
+}
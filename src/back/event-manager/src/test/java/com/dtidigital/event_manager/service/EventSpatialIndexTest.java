@@ -0,0 +1,81 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.dto.EventLocation;
+import com.dtidigital.event_manager.enums.EventCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSpatialIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 10);
+
+    private EventSpatialIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventSpatialIndex(0.05);
+        index.rebuild(Arrays.asList(
+                // Belo Horizonte, Contagem (~12,6 km), Nova Lima (~12 km) e São Paulo (~490 km)
+                new EventLocation(1L, -19.9167, -43.9345, DATE, EventCategory.CONFERENCE),
+                new EventLocation(2L, -19.9321, -44.0539, DATE, EventCategory.WORKSHOP),
+                new EventLocation(3L, -19.9858, -43.8467, DATE.plusDays(5), EventCategory.CONFERENCE),
+                new EventLocation(4L, -23.5505, -46.6333, DATE, EventCategory.CONFERENCE)));
+    }
+
+    @Test
+    void testSearchRadiusOrdersByDistance() {
+        List<EventSpatialIndex.Hit> hits = index.searchRadius(-19.9167, -43.9345, 15, null, null, null, 10);
+
+        assertEquals(List.of(1L, 3L, 2L), ids(hits));
+        assertEquals(0, hits.get(0).distanceKm(), 1e-9);
+        assertEquals(12.0, hits.get(1).distanceKm(), 0.2);
+    }
+
+    @Test
+    void testSearchRadiusAppliesFiltersAndLimit() {
+        assertEquals(List.of(1L, 3L),
+                ids(index.searchRadius(-19.9167, -43.9345, 15, null, null, EventCategory.CONFERENCE, 10)));
+        assertEquals(List.of(3L),
+                ids(index.searchRadius(-19.9167, -43.9345, 15, DATE.plusDays(1), null, null, 10)));
+        assertEquals(List.of(1L),
+                ids(index.searchRadius(-19.9167, -43.9345, 15, null, null, null, 1)));
+    }
+
+    @Test
+    void testSearchBox() {
+        assertEquals(List.of(1L, 2L, 3L), ids(index.searchBox(-20.5, -44.5, -19.5, -43.5, null, null, null, 10)));
+        assertEquals(List.of(4L), ids(index.searchBox(-24, -47, -23, -46, null, null, null, 10)));
+    }
+
+    @Test
+    void testSearchAcrossAntimeridian() {
+        index.put(new EventLocation(5L, -17.7134, 178.0650, DATE, null));
+        index.put(new EventLocation(6L, -17.8000, -179.9000, DATE, null));
+
+        assertEquals(List.of(5L, 6L), ids(index.searchBox(-18, 177, -17, -179, null, null, null, 10)));
+        assertEquals(List.of(6L, 5L), ids(index.searchRadius(-17.8, 179.99, 250, null, null, null, 10)));
+    }
+
+    @Test
+    void testPutMovesAndRemoveDeletes() {
+        index.put(new EventLocation(4L, -19.92, -43.94, DATE, EventCategory.CONFERENCE));
+        assertEquals(List.of(1L, 4L), ids(index.searchRadius(-19.9167, -43.9345, 2, null, null, null, 10)));
+
+        index.remove(1L);
+        index.put(new EventLocation(2L, null, null, DATE, EventCategory.WORKSHOP));
+
+        // Sobram o 4 (movido para BH) e o 3 (Nova Lima, ~12 km)
+        assertEquals(2, index.size());
+        assertEquals(List.of(4L, 3L), ids(index.searchRadius(-19.9167, -43.9345, 15, null, null, null, 10)));
+    }
+
+    private static List<Long> ids(List<EventSpatialIndex.Hit> hits) {
+        return hits.stream().map(EventSpatialIndex.Hit::id).toList();
+    }
+}
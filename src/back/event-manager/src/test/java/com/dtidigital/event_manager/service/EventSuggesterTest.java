@@ -0,0 +1,99 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.dto.EventTerms;
+import com.dtidigital.event_manager.dto.Suggestion;
+import com.dtidigital.event_manager.enums.SuggestField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSuggesterTest {
+
+    private EventSuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        suggester = new EventSuggester();
+        suggester.rebuild(Arrays.asList(
+                new EventTerms(1L, "Workshop React", "DTI Digital", "Auditório DTI"),
+                new EventTerms(2L, "Workshop Java", "DTI Digital", "Hub de Inovação"),
+                new EventTerms(3L, "Meetup JavaScript", "JS Community", "Auditório Central"),
+                new EventTerms(4L, "Palestra", "Dti Labs", "Auditório DTI")));
+    }
+
+    @Test
+    void testSuggestOrdersByFrequency() {
+        List<Suggestion> result = suggester.suggest(SuggestField.ORGANIZER, "dt", 10);
+
+        assertEquals(List.of(new Suggestion("DTI Digital", 2), new Suggestion("Dti Labs", 1)), result);
+    }
+
+    @Test
+    void testSuggestIgnoresAccentsAndCase() {
+        assertEquals(List.of(new Suggestion("Auditório DTI", 2), new Suggestion("Auditório Central", 1)),
+                suggester.suggest(SuggestField.LOCATION, "AUDITORIO", 10));
+        assertEquals(List.of(new Suggestion("Hub de Inovação", 1)),
+                suggester.suggest(SuggestField.LOCATION, "hub de inova", 10));
+    }
+
+    @Test
+    void testSuggestAppliesLimit() {
+        assertEquals(1, suggester.suggest(SuggestField.NAME, "workshop", 1).size());
+        assertTrue(suggester.suggest(SuggestField.NAME, "x", 10).isEmpty());
+    }
+
+    @Test
+    void testUpdatesAreIncremental() {
+        suggester.put(new EventTerms(4L, "Palestra", "DTI Digital", "Auditório DTI"));
+        suggester.remove(1L);
+
+        assertEquals(List.of(new Suggestion("DTI Digital", 2)), suggester.suggest(SuggestField.ORGANIZER, "dt", 10));
+        assertEquals(List.of(new Suggestion("Workshop Java", 1)), suggester.suggest(SuggestField.NAME, "work", 10));
+    }
+
+    @Test
+    void testCachedPrefixIsInvalidatedOnWrite() {
+        List<EventTerms> events = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            events.add(new EventTerms(id, "Evento " + id, "Organizador " + id, "Local"));
+        }
+        suggester.rebuild(events);
+        assertEquals(1, suggester.suggest(SuggestField.ORGANIZER, "org", 1).get(0).count());
+
+        suggester.put(new EventTerms(501L, "Evento 501", "Organizador 7", "Local"));
+
+        assertEquals(new Suggestion("Organizador 7", 2), suggester.suggest(SuggestField.ORGANIZER, "org", 1).get(0));
+    }
+
+    @Test
+    void testCachedPrefixKeepsOrderAfterShrinking() {
+        List<EventTerms> events = new ArrayList<>();
+        for (long top = 1; top <= 45; top++) {
+            for (long copy = 0; copy < 3; copy++) {
+                events.add(new EventTerms(top * 10 + copy, "Evento", String.format("Org Top %02d", top), "Local"));
+            }
+        }
+        for (long id = 1; id <= 300; id++) {
+            events.add(new EventTerms(1_000 + id, "Evento", String.format("Org %03d", id), "Local"));
+        }
+        suggester.rebuild(events);
+        suggester.suggest(SuggestField.ORGANIZER, "org", 20);
+
+        // Os 20 primeiros do cache caem para 2 usos e saem dele, que fica com 20 termos
+        for (long top = 1; top <= 20; top++) {
+            suggester.remove(top * 10);
+        }
+        // "Org 001" sobe para 2 usos, abaixo de "Org Top 41".."45" (3 usos), que estão fora do cache
+        suggester.put(new EventTerms(2_000L, "Evento", "Org 001", "Local"));
+        suggester.remove(210L);
+
+        List<Suggestion> suggestions = suggester.suggest(SuggestField.ORGANIZER, "org", 20);
+        assertEquals(20, suggestions.size());
+        assertTrue(suggestions.stream().allMatch(suggestion -> suggestion.count() == 3), suggestions::toString);
+    }
+}
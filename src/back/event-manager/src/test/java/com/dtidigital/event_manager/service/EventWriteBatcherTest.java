@@ -0,0 +1,171 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.exception.EventNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.sqlite.SQLiteDataSource;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class EventWriteBatcherTest {
+
+    private PlatformTransactionManager transactionManager;
+    private EventWriteBatcher batcher;
+
+    @TempDir
+    Path folder;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        batcher = batcher(transactionManager, 50L);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        batcher.stop();
+    }
+
+    @Test
+    void testConcurrentWritesShareTransactions() throws Exception {
+        int writers = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            int value = i;
+            results.add(executor.submit(() -> {
+                ready.await();
+                return batcher.execute(() -> value);
+            }));
+        }
+        ready.countDown();
+
+        for (int i = 0; i < writers; i++) {
+            assertEquals(i, results.get(i).get());
+        }
+        executor.shutdown();
+        verify(transactionManager, atMost(writers - 1)).commit(any());
+    }
+
+    @Test
+    void testFailingWriteDoesNotFailOthers() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch ready = new CountDownLatch(1);
+        Future<String> ok = executor.submit(() -> {
+            ready.await();
+            return batcher.execute(() -> "ok");
+        });
+        Future<Object> failing = executor.submit(() -> {
+            ready.await();
+            return batcher.execute(() -> {
+                throw new EventNotFoundException("Evento não encontrado com ID: 1");
+            });
+        });
+        ready.countDown();
+
+        assertEquals("ok", ok.get());
+        Exception e = assertThrows(Exception.class, failing::get);
+        assertInstanceOf(EventNotFoundException.class, e.getCause());
+        executor.shutdown();
+    }
+
+    @Test
+    void testExecuteAfterStopIsRejected() throws InterruptedException {
+        batcher.stop();
+
+        assertThrows(IllegalStateException.class, () -> batcher.execute(() -> "late"));
+    }
+
+    @Test
+    void testWriteQueuedWhileStoppingIsRejected() throws Exception {
+        // A corrida com stop(): a escrita passa pela verificação e só entra na fila com a thread já encerrada
+        EventWriteBatcher racing = new EventWriteBatcher();
+        ReflectionTestUtils.setField(racing, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(racing, "maxBatchSize", 64);
+        ReflectionTestUtils.setField(racing, "maxDelayMs", 50L);
+        ReflectionTestUtils.setField(racing, "queue", new LinkedBlockingQueue<Object>() {
+            @Override
+            public boolean add(Object write) {
+                ReflectionTestUtils.invokeMethod(racing, "stop");
+                return super.add(write);
+            }
+        });
+        racing.start();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        Future<String> write = executor.submit(() -> racing.execute(() -> "late"));
+
+        Exception e = assertThrows(ExecutionException.class, () -> write.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        executor.shutdown();
+    }
+
+    @Test
+    void testRolledBackBatchIsRetriedAgainstDatabase() throws Exception {
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + folder.resolve("events.db"));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE events (name TEXT PRIMARY KEY)");
+        jdbcTemplate.update("INSERT INTO events (name) VALUES ('existente')");
+        DataSourceTransactionManager databaseTransactions = spy(new DataSourceTransactionManager(dataSource));
+        batcher.stop();
+        batcher = batcher(databaseTransactions, 500L);
+
+        int writers = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<Integer>> inserts = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            String name = "evento " + i;
+            inserts.add(executor.submit(() -> {
+                ready.await();
+                return batcher.execute(() -> jdbcTemplate.update("INSERT INTO events (name) VALUES (?)", name));
+            }));
+        }
+        Future<Integer> duplicate = executor.submit(() -> {
+            ready.await();
+            return batcher.execute(() -> jdbcTemplate.update("INSERT INTO events (name) VALUES ('existente')"));
+        });
+        ready.countDown();
+
+        for (Future<Integer> insert : inserts) {
+            assertEquals(1, insert.get());
+        }
+        Exception e = assertThrows(Exception.class, duplicate::get);
+        assertInstanceOf(DataAccessException.class, e.getCause());
+        // O lote foi desfeito e as escritas refeitas uma a uma, sem duplicar nem perder linhas
+        verify(databaseTransactions, atLeastOnce()).rollback(any());
+        assertEquals(writers + 1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM events", Integer.class));
+        executor.shutdown();
+    }
+
+    private static EventWriteBatcher batcher(PlatformTransactionManager transactionManager, long maxDelayMs) {
+        EventWriteBatcher batcher = new EventWriteBatcher();
+        ReflectionTestUtils.setField(batcher, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(batcher, "maxBatchSize", 64);
+        ReflectionTestUtils.setField(batcher, "maxDelayMs", maxDelayMs);
+        batcher.start();
+        return batcher;
+    }
+}
@@ -0,0 +1,148 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.enums.EventChangeType;
+import com.dtidigital.event_manager.model.EventOutboxMessage;
+import com.dtidigital.event_manager.model.WebhookSubscription;
+import com.dtidigital.event_manager.repository.IEventOutboxRepository;
+import com.dtidigital.event_manager.repository.IWebhookSubscriptionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class WebhookDispatcherTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final List<byte[]> received = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> signatures = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger status = new AtomicInteger(200);
+
+    private HttpServer stub;
+    private IWebhookSubscriptionRepository subscriptionRepository;
+    private IEventOutboxRepository outboxRepository;
+    private WebhookDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.createContext("/hook", exchange -> {
+            received.add(exchange.getRequestBody().readAllBytes());
+            signatures.add(exchange.getRequestHeaders().getFirst(WebhookDispatcher.SIGNATURE_HEADER));
+            exchange.sendResponseHeaders(status.get(), -1);
+            exchange.close();
+        });
+        stub.start();
+
+        subscriptionRepository = mock(IWebhookSubscriptionRepository.class);
+        outboxRepository = mock(IEventOutboxRepository.class);
+        dispatcher = new WebhookDispatcher();
+        ReflectionTestUtils.setField(dispatcher, "subscriptionRepository", subscriptionRepository);
+        ReflectionTestUtils.setField(dispatcher, "outboxRepository", outboxRepository);
+        ReflectionTestUtils.setField(dispatcher, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 2);
+        ReflectionTestUtils.setField(dispatcher, "timeoutMs", 2000L);
+        ReflectionTestUtils.setField(dispatcher, "maxBackoffSeconds", 60L);
+        ReflectionTestUtils.setField(dispatcher, "permitsPerSecond", 100.0);
+        ReflectionTestUtils.setField(dispatcher, "burst", 100);
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+        stub.stop(0);
+    }
+
+    @Test
+    void testDeliversBatchesInOrderAndAdvancesCursor() throws Exception {
+        WebhookSubscription subscription = subscription("s3cr3t");
+        when(outboxRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(message(1L, EventChangeType.CREATED), message(2L, EventChangeType.UPDATED)));
+        when(outboxRepository.findByIdGreaterThanOrderByIdAsc(eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(message(3L, EventChangeType.DELETED)));
+
+        dispatcher.deliver(subscription);
+
+        assertEquals(2, received.size());
+        JsonNode first = objectMapper.readTree(received.get(0));
+        assertEquals(1, first.get("messages").get(0).get("id").asLong());
+        assertEquals("CREATED", first.get("messages").get(0).get("type").asText());
+        assertEquals("Evento 1", first.get("messages").get(0).get("event").get("name").asText());
+        JsonNode second = objectMapper.readTree(received.get(1));
+        assertEquals(3, second.get("messages").get(0).get("id").asLong());
+        assertTrue(second.get("messages").get(0).get("event").isNull());
+        assertEquals("sha256=" + WebhookDispatcher.sign("s3cr3t", received.get(0)), signatures.get(0));
+
+        verify(subscriptionRepository).markDelivered(7L, 2L);
+        verify(subscriptionRepository).markDelivered(7L, 3L);
+        verify(outboxRepository, never()).findByIdGreaterThanOrderByIdAsc(eq(3L), any(Pageable.class));
+    }
+
+    @Test
+    void testFailureKeepsCursorAndBacksOff() {
+        status.set(500);
+        WebhookSubscription subscription = subscription(null);
+        subscription.setFailures(2);
+        when(outboxRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(message(1L, EventChangeType.CREATED)));
+
+        dispatcher.deliver(subscription);
+
+        assertEquals(1, received.size());
+        assertNull(signatures.get(0));
+        verify(subscriptionRepository, never()).markDelivered(anyLong(), anyLong());
+        verify(subscriptionRepository).markFailed(eq(7L), eq(3), any(), eq("HTTP 500"));
+    }
+
+    @Test
+    void testUnreachableSubscriberIsRecordedAsFailure() {
+        WebhookSubscription subscription = subscription(null);
+        subscription.setUrl("http://localhost:1/hook");
+        when(outboxRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(message(1L, EventChangeType.CREATED)));
+
+        dispatcher.deliver(subscription);
+
+        verify(subscriptionRepository).markFailed(eq(7L), eq(1), any(), startsWith("ConnectException"));
+    }
+
+    @Test
+    void testPurgeKeepsUndeliveredMessages() {
+        when(subscriptionRepository.findMinDeliveredId()).thenReturn(5L);
+
+        dispatcher.purgeDelivered();
+
+        verify(outboxRepository).deleteUpTo(5L);
+    }
+
+    private WebhookSubscription subscription(String secret) {
+        WebhookSubscription subscription = new WebhookSubscription();
+        subscription.setId(7L);
+        subscription.setUrl("http://localhost:" + stub.getAddress().getPort() + "/hook");
+        subscription.setSecret(secret);
+        subscription.setLastDeliveredId(0L);
+        return subscription;
+    }
+
+    private static EventOutboxMessage message(Long id, EventChangeType type) {
+        EventOutboxMessage message = new EventOutboxMessage(type, 10L + id,
+                type == EventChangeType.DELETED ? null : "{\"id\":" + (10 + id) + ",\"name\":\"Evento " + id + "\"}");
+        message.setId(id);
+        return message;
+    }
+}
@@ -0,0 +1,117 @@
+package com.dtidigital.event_manager.service;
+
+import com.dtidigital.event_manager.config.EventTableMigration;
+import com.dtidigital.event_manager.enums.EventChangeType;
+import com.dtidigital.event_manager.model.EventOutboxMessage;
+import com.dtidigital.event_manager.model.WebhookSubscription;
+import com.dtidigital.event_manager.repository.IEventOutboxRepository;
+import com.dtidigital.event_manager.repository.IWebhookSubscriptionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Outbox num arquivo SQLite de verdade, com o schema criado pelo Hibernate e a migração para
+ * AUTOINCREMENT: os IDs não podem voltar depois que a limpeza esvazia a tabela.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EventTableMigration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WebhookOutboxSqliteTest {
+
+    @TempDir
+    static Path folder;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + folder.resolve("outbox.db"));
+    }
+
+    @Autowired
+    private IWebhookSubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private IEventOutboxRepository outboxRepository;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final List<byte[]> received = Collections.synchronizedList(new ArrayList<>());
+
+    private HttpServer stub;
+    private WebhookDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.createContext("/hook", exchange -> {
+            received.add(exchange.getRequestBody().readAllBytes());
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        stub.start();
+
+        dispatcher = new WebhookDispatcher();
+        ReflectionTestUtils.setField(dispatcher, "subscriptionRepository", subscriptionRepository);
+        ReflectionTestUtils.setField(dispatcher, "outboxRepository", outboxRepository);
+        ReflectionTestUtils.setField(dispatcher, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 100);
+        ReflectionTestUtils.setField(dispatcher, "timeoutMs", 2000L);
+        ReflectionTestUtils.setField(dispatcher, "maxBackoffSeconds", 60L);
+        ReflectionTestUtils.setField(dispatcher, "permitsPerSecond", 100.0);
+        ReflectionTestUtils.setField(dispatcher, "burst", 100);
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+        stub.stop(0);
+    }
+
+    @Test
+    void testMessageWrittenAfterPurgeIsDelivered() throws Exception {
+        WebhookSubscription subscription = new WebhookSubscription();
+        subscription.setUrl("http://localhost:" + stub.getAddress().getPort() + "/hook");
+        subscription.setLastDeliveredId(outboxRepository.findMaxId());
+        subscription.setCreatedAt(LocalDateTime.now());
+        Long subscriptionId = subscriptionRepository.save(subscription).getId();
+
+        outboxRepository.save(new EventOutboxMessage(EventChangeType.CREATED, 1L, "{\"id\":1}"));
+        dispatcher.deliver(subscriptionRepository.findById(subscriptionId).orElseThrow());
+        dispatcher.purgeDelivered();
+        assertEquals(0, outboxRepository.count());
+
+        outboxRepository.save(new EventOutboxMessage(EventChangeType.CREATED, 2L, "{\"id\":2}"));
+        dispatcher.deliver(subscriptionRepository.findById(subscriptionId).orElseThrow());
+
+        assertEquals(2, received.size());
+        JsonNode first = objectMapper.readTree(received.get(0)).get("messages").get(0);
+        JsonNode second = objectMapper.readTree(received.get(1)).get("messages").get(0);
+        assertEquals(1, first.get("eventId").asLong());
+        assertEquals(2, second.get("eventId").asLong());
+        assertTrue(second.get("id").asLong() > first.get("id").asLong());
+    }
+}